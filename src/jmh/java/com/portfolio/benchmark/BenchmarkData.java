@@ -0,0 +1,152 @@
+package com.portfolio.benchmark;
+
+import com.portfolio.model.Advisory;
+import com.portfolio.model.AdvisoryStatus;
+import com.portfolio.model.Availability;
+import com.portfolio.model.Project;
+import com.portfolio.model.ProjectStatus;
+import com.portfolio.model.ProjectType;
+import com.portfolio.model.Role;
+import com.portfolio.model.User;
+import com.portfolio.report.AdvisoryReportRow;
+import com.portfolio.report.ProjectReportRow;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic synthetic datasets shaped like production data: a few dozen
+ * programmers, a long tail of technologies and free-text comments.
+ */
+final class BenchmarkData {
+
+    static final String[] TECHNOLOGIES = {
+            "Java", "Spring Boot", "Angular", "React", "Vue", "TypeScript", "JavaScript", "Node.js",
+            "PostgreSQL", "MySQL", "MongoDB", "Redis", "Docker", "Kubernetes", "AWS", "Azure",
+            "GCP", "Python", "Django", "FastAPI", "Go", "Rust", "Kotlin", "Swift", "Flutter",
+            "Dart", "C#", ".NET", "PHP", "Laravel", "GraphQL", "Kafka", "RabbitMQ", "Terraform",
+            "Tailwind", "Sass", "Next.js", "Nest.js", "Firebase", "Elasticsearch"
+    };
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 6, 9, 0);
+    private static final int PROGRAMMERS = 50;
+    private static final int EXTERNALS = 500;
+
+    private BenchmarkData() {
+    }
+
+    static List<User> users(Role role, int count, long seed) {
+        Random random = new Random(seed);
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(User.builder()
+                    .id(new UUID(seed, i))
+                    .email(role.name().toLowerCase() + i + "@portfolio.com")
+                    .name(role == Role.PROGRAMMER ? "Programador " + i : "Cliente " + i)
+                    .avatarUrl(random.nextBoolean() ? "https://cdn.portfolio.com/avatars/" + i + ".png" : null)
+                    .role(role)
+                    .createdAt(BASE_TIME.minusDays(random.nextInt(365)))
+                    .updatedAt(BASE_TIME)
+                    .build());
+        }
+        return users;
+    }
+
+    static List<Project> projects(int count) {
+        Random random = new Random(1);
+        List<User> programmers = users(Role.PROGRAMMER, PROGRAMMERS, 2);
+        List<Project> projects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            projects.add(Project.builder()
+                    .id(new UUID(3, i))
+                    .user(programmers.get(random.nextInt(programmers.size())))
+                    .title("Proyecto " + i)
+                    .description("Plataforma de gestión número " + i + " con autenticación y reportes")
+                    .projectType(ProjectType.values()[random.nextInt(ProjectType.values().length)])
+                    .roleInProject(random.nextBoolean() ? "Backend" : "Full Stack")
+                    .technologies(technologies(random))
+                    .repoUrl("https://github.com/portfolio/proyecto-" + i)
+                    .demoUrl(random.nextInt(3) == 0 ? "https://demo.portfolio.com/" + i : null)
+                    .status(ProjectStatus.values()[random.nextInt(ProjectStatus.values().length)])
+                    .createdAt(BASE_TIME.minusHours(i))
+                    .updatedAt(BASE_TIME.minusHours(i))
+                    .build());
+        }
+        return projects;
+    }
+
+    static List<Advisory> advisories(int count) {
+        Random random = new Random(4);
+        List<User> programmers = users(Role.PROGRAMMER, PROGRAMMERS, 2);
+        List<User> externals = users(Role.USER, EXTERNALS, 5);
+        List<Advisory> advisories = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            advisories.add(Advisory.builder()
+                    .id(new UUID(6, i))
+                    .programmer(programmers.get(random.nextInt(programmers.size())))
+                    .external(externals.get(random.nextInt(externals.size())))
+                    .scheduledAt(BASE_TIME.plusMinutes(30L * i))
+                    .status(AdvisoryStatus.values()[random.nextInt(AdvisoryStatus.values().length)])
+                    .requestComment("Necesito ayuda con " + TECHNOLOGIES[random.nextInt(TECHNOLOGIES.length)])
+                    .responseMessage(random.nextBoolean() ? "Perfecto, agendado" : null)
+                    .createdAt(BASE_TIME.minusDays(1))
+                    .updatedAt(BASE_TIME)
+                    .build());
+        }
+        return advisories;
+    }
+
+    /**
+     * One to three weekday slots per programmer, as programmers usually publish.
+     */
+    static List<Availability> availabilities(List<User> programmers) {
+        Random random = new Random(7);
+        List<Availability> availabilities = new ArrayList<>();
+        for (User programmer : programmers) {
+            int slots = 1 + random.nextInt(3);
+            for (int i = 0; i < slots; i++) {
+                LocalTime start = LocalTime.of(8 + random.nextInt(8), 0);
+                availabilities.add(Availability.builder()
+                        .id(new UUID(8, availabilities.size()))
+                        .user(programmer)
+                        .dayOfWeek(DayOfWeek.of(1 + random.nextInt(5)))
+                        .startTime(start)
+                        .endTime(start.plusHours(2))
+                        .createdAt(BASE_TIME)
+                        .build());
+            }
+        }
+        return availabilities;
+    }
+
+    static List<AdvisoryReportRow> advisoryRows(int count) {
+        return advisories(count).stream()
+                .map(a -> new AdvisoryReportRow(a.getId(), a.getProgrammer().getName(), a.getExternal().getName(),
+                        a.getExternal().getEmail(), a.getScheduledAt(), a.getStatus(), a.getRequestComment(),
+                        a.getResponseMessage()))
+                .toList();
+    }
+
+    static List<ProjectReportRow> projectRows(int count) {
+        return projects(count).stream()
+                .map(p -> new ProjectReportRow(p.getId(), p.getUser().getName(), p.getTitle(), p.getDescription(),
+                        p.getProjectType(), p.getRoleInProject(), p.getTechnologies(), p.getStatus(),
+                        p.getRepoUrl(), p.getDemoUrl(), p.getCreatedAt()))
+                .toList();
+    }
+
+    private static String[] technologies(Random random) {
+        String[] technologies = new String[1 + random.nextInt(6)];
+        for (int i = 0; i < technologies.length; i++) {
+            // Skewed towards the front of the list, like real usage
+            int index = (int) (Math.pow(random.nextDouble(), 2) * TECHNOLOGIES.length);
+            technologies[i] = TECHNOLOGIES[index];
+        }
+        return technologies;
+    }
+}
@@ -0,0 +1,97 @@
+package com.portfolio.benchmark;
+
+import com.portfolio.dto.DashboardStats;
+import com.portfolio.model.Project;
+import com.portfolio.model.RollupMetric;
+import com.portfolio.repository.DashboardRollupRepository;
+import com.portfolio.service.DashboardService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * {@code DashboardService} stats over an in-memory rollup repository. Every
+ * figure arrives pre-aggregated, as the rollup table returns it, so the
+ * service cost no longer depends on the project count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DashboardStatsBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    int projects;
+
+    private DashboardService dashboardService;
+    private UUID programmerId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Project> all = BenchmarkData.projects(projects);
+        programmerId = all.get(0).getUser().getId();
+        List<Project> own = all.stream().filter(p -> p.getUser().getId().equals(programmerId)).toList();
+
+        List<Object[]> statusCounts = List.of(
+                new Object[] { "PENDING", 120L }, new Object[] { "APPROVED", 300L },
+                new Object[] { "COMPLETED", 900L }, new Object[] { "REJECTED", 40L });
+        List<Object[]> timeSeries = IntStream.range(0, 30)
+                .mapToObj(day -> new Object[] { "2025-01-" + (day + 1), (long) day })
+                .toList();
+        List<Object[]> topTechnologies = topTechnologies(all);
+        List<Object[]> ownTechnologies = topTechnologies(own);
+        List<Object[]> byProgrammer = all.stream().map(Project::getUser).distinct()
+                .map(user -> new Object[] { user.getId(), user.getName(), 10L })
+                .toList();
+
+        DashboardRollupRepository rollupRepository = RepositoryStubs.stub(DashboardRollupRepository.class, Map.of(
+                "sumByDimension/3", args -> args[0] == RollupMetric.ADVISORY ? statusCounts
+                        : args[1] != null ? ownTechnologies : topTechnologies,
+                "sumByDateSince/2", args -> timeSeries,
+                "sumByProgrammer/1", args -> byProgrammer,
+                "sum/2", args -> (long) (args[1] != null ? own.size() : all.size())));
+
+        dashboardService = new DashboardService(rollupRepository);
+    }
+
+    private static List<Object[]> topTechnologies(List<Project> projects) {
+        return projects.stream()
+                .flatMap(p -> Arrays.stream(p.getTechnologies()))
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
+                .entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(10)
+                .map(e -> new Object[] { e.getKey(), e.getValue() })
+                .toList();
+    }
+
+    @Benchmark
+    public DashboardStats globalStats() {
+        return dashboardService.getGlobalStats();
+    }
+
+    @Benchmark
+    public DashboardStats programmerStats() {
+        return dashboardService.getProgrammerStats(programmerId);
+    }
+}
@@ -0,0 +1,118 @@
+package com.portfolio.benchmark;
+
+import com.portfolio.dto.AdvisoryResponse;
+import com.portfolio.dto.ProjectResponse;
+import com.portfolio.dto.UserResponse;
+import com.portfolio.model.Advisory;
+import com.portfolio.model.Availability;
+import com.portfolio.model.Project;
+import com.portfolio.model.Role;
+import com.portfolio.model.User;
+import com.portfolio.repository.AdvisoryRepository;
+import com.portfolio.repository.AvailabilityRepository;
+import com.portfolio.repository.ProjectRepository;
+import com.portfolio.repository.UserRepository;
+import com.portfolio.service.AdvisoryService;
+import com.portfolio.service.ProjectService;
+import com.portfolio.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Entity-to-DTO mapping through the public service methods, with repositories
+ * answering from memory. The user path includes the batched project counts and
+ * availability lookups, with each batch answered only for the ids it asks for.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    int size;
+
+    private ProjectService projectService;
+    private AdvisoryService advisoryService;
+    private UserService userService;
+    private Pageable pageable;
+    private UUID userId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Project> projects = BenchmarkData.projects(size);
+        List<Advisory> advisories = BenchmarkData.advisories(size);
+        Page<Advisory> advisoryPage = new PageImpl<>(advisories);
+        pageable = PageRequest.of(0, size);
+        userId = UUID.randomUUID();
+
+        List<User> programmers = BenchmarkData.users(Role.PROGRAMMER, size, 9);
+        Map<UUID, Long> projectCounts = new HashMap<>();
+        for (int i = 0; i < programmers.size(); i++) {
+            // Some programmers have not published anything yet and get no count row
+            if (i % 5 != 0) {
+                projectCounts.put(programmers.get(i).getId(), (long) (i % 12));
+            }
+        }
+        Map<UUID, List<Availability>> availabilities = BenchmarkData.availabilities(programmers).stream()
+                .collect(Collectors.groupingBy(availability -> availability.getUser().getId()));
+
+        ProjectRepository projectRepository = RepositoryStubs.stub(ProjectRepository.class, Map.of(
+                "findByUserIdOrderByCreatedAtDesc/1", args -> projects,
+                "countByUserIds/1", args -> ((Collection<?>) args[0]).stream()
+                        .filter(projectCounts::containsKey)
+                        .map(id -> new Object[] { id, projectCounts.get(id) })
+                        .toList()));
+        AdvisoryRepository advisoryRepository = RepositoryStubs.stub(AdvisoryRepository.class, Map.of(
+                "findAll/1", args -> advisoryPage));
+        UserRepository userRepository = RepositoryStubs.stub(UserRepository.class, Map.of(
+                "findByRoleAndIsActiveTrue/1", args -> programmers));
+        AvailabilityRepository availabilityRepository = RepositoryStubs.stub(AvailabilityRepository.class, Map.of(
+                "findByUserIdInAndIsActiveTrue/1", args -> ((Collection<?>) args[0]).stream()
+                        .flatMap(id -> availabilities.getOrDefault(id, List.of()).stream())
+                        .toList()));
+
+        projectService = new ProjectService(projectRepository, null, null, null);
+        advisoryService = new AdvisoryService(advisoryRepository, null, null, null, null, null);
+        userService = new UserService(userRepository, projectRepository, availabilityRepository, null);
+    }
+
+    @Benchmark
+    public List<ProjectResponse> projects() {
+        return projectService.findAllByUserId(userId);
+    }
+
+    @Benchmark
+    public List<AdvisoryResponse> advisories() {
+        return advisoryService.findAll(null, pageable).getContent();
+    }
+
+    @Benchmark
+    public List<UserResponse> programmers() {
+        return userService.findByRole(Role.PROGRAMMER);
+    }
+}
@@ -0,0 +1,59 @@
+package com.portfolio.benchmark;
+
+import com.portfolio.security.JwtClaims;
+import com.portfolio.security.JwtService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token generation and the per-request parse done by
+ * {@code JwtAuthenticationFilter}, with and without the verified-token cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String SECRET = "benchmark-secret-that-is-long-enough-for-hs256";
+
+    private JwtService jwtService;
+    private JwtService uncachedJwtService;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtService = new JwtService(SECRET, 86_400_000L, 10_000);
+        uncachedJwtService = new JwtService(SECRET, 86_400_000L, 0);
+        token = jwtService.generateToken("dev1@portfolio.com", "PROGRAMMER", "22222222-2222-2222-2222-222222222222");
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtService.generateToken("dev1@portfolio.com", "PROGRAMMER", "22222222-2222-2222-2222-222222222222");
+    }
+
+    @Benchmark
+    public Optional<JwtClaims> parseCached() {
+        return jwtService.parse(token);
+    }
+
+    @Benchmark
+    public Optional<JwtClaims> parseUncached() {
+        return uncachedJwtService.parse(token);
+    }
+}
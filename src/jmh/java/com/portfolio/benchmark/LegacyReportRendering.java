@@ -0,0 +1,219 @@
+package com.portfolio.benchmark;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.Element;
+import com.lowagie.text.Font;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.Rectangle;
+import com.lowagie.text.pdf.PdfPCell;
+import com.lowagie.text.pdf.PdfPTable;
+import com.lowagie.text.pdf.PdfWriter;
+import com.portfolio.report.AdvisoryReportRow;
+import com.portfolio.report.ProjectReportRow;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * The admin report generators as they were before the template registry: each
+ * report builds its own title font, header fonts, header cells and width
+ * arrays, and maps rows inline. Kept only as the benchmark baseline.
+ */
+final class LegacyReportRendering {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+    private LegacyReportRendering() {
+    }
+
+    static void advisoriesPdf(List<AdvisoryReportRow> rows, OutputStream out) {
+        String[] headers = { "Programador", "Solicitante", "Email Solicitante", "Fecha", "Estado", "Comentario" };
+        try (PdfReport writer = new PdfReport(out, PageSize.A4.rotate(),
+                "Reporte Administrativo de Asesorías", headers, new float[] { 2, 3, 3, 2, 2, 3 })) {
+            rows.forEach(row -> writer.addRow(
+                    row.programmerName(),
+                    row.externalName(),
+                    row.externalEmail(),
+                    row.scheduledAt().format(DATE_FORMATTER),
+                    row.status().name(),
+                    row.requestComment() != null ? row.requestComment() : "-"));
+        }
+    }
+
+    static void advisoriesExcel(List<AdvisoryReportRow> rows, OutputStream out) throws IOException {
+        String[] columns = { "ID", "Programador", "Solicitante", "Email", "Fecha", "Estado", "Comentario" };
+        try (ExcelReport writer = new ExcelReport("Asesorias Admin", columns)) {
+            rows.forEach(row -> writer.addRow(
+                    row.id().toString(),
+                    row.programmerName(),
+                    row.externalName(),
+                    row.externalEmail(),
+                    row.scheduledAt().format(DATE_FORMATTER),
+                    row.status().name(),
+                    row.requestComment()));
+            writer.write(out);
+        }
+    }
+
+    static void projectsPdf(List<ProjectReportRow> rows, OutputStream out) {
+        String[] headers = { "Programador", "Proyecto", "Tipo", "Estado", "Fecha Creacion", "Tecnologias" };
+        try (PdfReport writer = new PdfReport(out, PageSize.A4.rotate(),
+                "Reporte Administrativo de Proyectos", headers, new float[] { 2, 3, 3, 2, 2, 3 })) {
+            rows.forEach(row -> writer.addRow(
+                    row.programmerName(),
+                    row.title(),
+                    row.projectType().name(),
+                    row.status().name(),
+                    row.createdAt().format(DATE_FORMATTER),
+                    row.technologiesOr("-")));
+        }
+    }
+
+    static void projectsExcel(List<ProjectReportRow> rows, OutputStream out) throws IOException {
+        String[] columns = { "ID", "Programador", "Proyecto", "Tipo", "Estado", "Fecha", "Tecnologias" };
+        try (ExcelReport writer = new ExcelReport("Proyectos Admin", columns)) {
+            rows.forEach(row -> writer.addRow(
+                    row.id().toString(),
+                    row.programmerName(),
+                    row.title(),
+                    row.projectType().name(),
+                    row.status().name(),
+                    row.createdAt().format(DATE_FORMATTER),
+                    row.technologiesOr("")));
+            writer.write(out);
+        }
+    }
+
+    private static final class PdfReport implements Closeable {
+
+        private static final int CHUNK_ROWS = 200;
+
+        private final Document document;
+        private final PdfWriter writer;
+        private final PdfPTable table;
+        private int pendingRows;
+
+        PdfReport(OutputStream out, Rectangle pageSize, String title, String[] headers, float[] widths) {
+            this.document = new Document(pageSize);
+            this.writer = PdfWriter.getInstance(document, out);
+            this.writer.setCloseStream(false);
+
+            document.open();
+
+            Font titleFont = new Font(Font.HELVETICA, 18, Font.BOLD);
+            Paragraph titleParagraph = new Paragraph(title, titleFont);
+            titleParagraph.setAlignment(Element.ALIGN_CENTER);
+            titleParagraph.setSpacingAfter(20);
+            document.add(titleParagraph);
+
+            this.table = new PdfPTable(headers.length);
+            table.setWidthPercentage(100);
+            table.setWidths(widths);
+            table.setHeaderRows(1);
+            table.setComplete(false);
+
+            Font headerFont = new Font(Font.HELVETICA, 10, Font.BOLD);
+            for (String header : headers) {
+                PdfPCell cell = new PdfPCell(new Phrase(header, headerFont));
+                cell.setBackgroundColor(java.awt.Color.LIGHT_GRAY);
+                cell.setPadding(5);
+                table.addCell(cell);
+            }
+        }
+
+        void addRow(String... values) {
+            for (String value : values) {
+                table.addCell(value);
+            }
+            if (++pendingRows >= CHUNK_ROWS) {
+                document.add(table);
+                writer.flush();
+                pendingRows = 0;
+            }
+        }
+
+        @Override
+        public void close() {
+            table.setComplete(true);
+            document.add(table);
+            document.close();
+        }
+    }
+
+    private static final class ExcelReport implements Closeable {
+
+        private static final int WINDOW_SIZE = 100;
+        private static final int WIDTH_SAMPLE_ROWS = 200;
+        private static final int MIN_COLUMN_CHARS = 8;
+        private static final int MAX_COLUMN_CHARS = 60;
+
+        private final SXSSFWorkbook workbook;
+        private final SXSSFSheet sheet;
+        private final int[] sampledWidths;
+        private int rowNum;
+
+        ExcelReport(String sheetName, String[] columns) {
+            this.workbook = new SXSSFWorkbook(WINDOW_SIZE);
+            this.workbook.setCompressTempFiles(true);
+            this.sheet = workbook.createSheet(sheetName);
+            this.sampledWidths = new int[columns.length];
+
+            CellStyle headerStyle = workbook.createCellStyle();
+            org.apache.poi.ss.usermodel.Font headerFont = workbook.createFont();
+            headerFont.setBold(true);
+            headerStyle.setFont(headerFont);
+
+            Row headerRow = sheet.createRow(rowNum++);
+            for (int i = 0; i < columns.length; i++) {
+                Cell cell = headerRow.createCell(i);
+                cell.setCellValue(columns[i]);
+                cell.setCellStyle(headerStyle);
+                sample(i, columns[i]);
+            }
+        }
+
+        void addRow(String... values) {
+            Row row = sheet.createRow(rowNum);
+            boolean sampling = rowNum <= WIDTH_SAMPLE_ROWS;
+            for (int i = 0; i < values.length; i++) {
+                String value = values[i] != null ? values[i] : "";
+                row.createCell(i).setCellValue(value);
+                if (sampling) {
+                    sample(i, value);
+                }
+            }
+            rowNum++;
+        }
+
+        void write(OutputStream out) throws IOException {
+            for (int i = 0; i < sampledWidths.length; i++) {
+                int chars = Math.max(MIN_COLUMN_CHARS, Math.min(MAX_COLUMN_CHARS, sampledWidths[i] + 2));
+                sheet.setColumnWidth(i, chars * 256);
+            }
+            workbook.write(out);
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            workbook.dispose();
+            workbook.close();
+        }
+
+        private void sample(int column, String value) {
+            if (column < sampledWidths.length && value.length() > sampledWidths[column]) {
+                sampledWidths[column] = value.length();
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.portfolio.benchmark;
+
+import com.portfolio.model.NotificationLog;
+import com.portfolio.model.NotificationStatus;
+import com.portfolio.model.NotificationType;
+import com.portfolio.service.NotificationLogWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Inserts per second for a reminder-sized burst of 10k notification log rows
+ * written in one transaction: one statement per row, JDBC batches, and JDBC
+ * batches rewritten into multi-row INSERTs. Needs a migrated Postgres, taken
+ * from {@code DB_URL}, {@code DB_USER} and {@code DB_PASS} like the app; every
+ * invocation is rolled back.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NotificationLogInsertBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    @Param({ "row", "batch", "multi-row" })
+    String mode;
+
+    private SingleConnectionDataSource dataSource;
+    private TransactionTemplate transactionTemplate;
+    private NotificationLogWriter writer;
+    private List<NotificationLog> rows;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource(
+                env("DB_URL", "jdbc:postgresql://localhost:5432/portfolio_db"),
+                env("DB_USER", "portfolio_user"),
+                env("DB_PASS", "portfolio_pass"),
+                true);
+        Properties properties = new Properties();
+        properties.setProperty("reWriteBatchedInserts", String.valueOf(mode.equals("multi-row")));
+        dataSource.setConnectionProperties(properties);
+
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        // Batch size 1 turns the writer into one round trip per row
+        writer = new NotificationLogWriter(new JdbcTemplate(dataSource), mode.equals("row") ? 1 : 50);
+
+        LocalDateTime now = LocalDateTime.now();
+        rows = IntStream.range(0, ROWS)
+                .mapToObj(i -> NotificationLog.builder()
+                        .id(UUID.randomUUID())
+                        .type(NotificationType.EMAIL)
+                        .destination("user" + i + "@portfolio.com")
+                        .subject("Recordatorio de asesoría")
+                        .payload("Tienes una asesoría programada para el 2024-06-03 a las 10:00.")
+                        .status(NotificationStatus.PENDING)
+                        .nextAttemptAt(now)
+                        .createdAt(now)
+                        .build())
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insert() {
+        transactionTemplate.executeWithoutResult(status -> {
+            writer.insertAll(rows);
+            status.setRollbackOnly();
+        });
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null ? value : defaultValue;
+    }
+}
@@ -0,0 +1,127 @@
+package com.portfolio.benchmark;
+
+import com.portfolio.report.AdvisoryReportRow;
+import com.portfolio.report.ProjectReportRow;
+import com.portfolio.report.ReportFormat;
+import com.portfolio.report.ReportRenderer;
+import com.portfolio.report.ReportTemplates;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full admin report rendering into a discarding stream, per format. Rows come
+ * from memory so only template lookup, cell formatting and the writers are
+ * measured; {@code -prof gc} reports the bytes allocated per report. The
+ * {@code *Baseline} benchmarks run the generators that predate the template
+ * registry, which only existed for PDF and Excel.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ReportRenderingBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Rows {
+
+        @Param({ "1000", "10000", "100000" })
+        int rows;
+
+        @Param({ "PDF", "EXCEL", "CSV", "NDJSON" })
+        ReportFormat format;
+
+        List<AdvisoryReportRow> advisories;
+        List<ProjectReportRow> projects;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            advisories = BenchmarkData.advisoryRows(rows);
+            projects = BenchmarkData.projectRows(rows);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class BaselineRows {
+
+        @Param({ "1000", "10000", "100000" })
+        int rows;
+
+        @Param({ "PDF", "EXCEL" })
+        ReportFormat format;
+
+        List<AdvisoryReportRow> advisories;
+        List<ProjectReportRow> projects;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            advisories = BenchmarkData.advisoryRows(rows);
+            projects = BenchmarkData.projectRows(rows);
+        }
+    }
+
+    @Benchmark
+    public long advisories(Rows state) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        ReportRenderer.render(ReportTemplates.ADMIN_ADVISORIES, state.format, state.advisories.stream(), out);
+        return out.count;
+    }
+
+    @Benchmark
+    public long projects(Rows state) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        ReportRenderer.render(ReportTemplates.ADMIN_PROJECTS, state.format, state.projects.stream(), out);
+        return out.count;
+    }
+
+    @Benchmark
+    public long advisoriesBaseline(BaselineRows state) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        if (state.format == ReportFormat.PDF) {
+            LegacyReportRendering.advisoriesPdf(state.advisories, out);
+        } else {
+            LegacyReportRendering.advisoriesExcel(state.advisories, out);
+        }
+        return out.count;
+    }
+
+    @Benchmark
+    public long projectsBaseline(BaselineRows state) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        if (state.format == ReportFormat.PDF) {
+            LegacyReportRendering.projectsPdf(state.projects, out);
+        } else {
+            LegacyReportRendering.projectsExcel(state.projects, out);
+        }
+        return out.count;
+    }
+
+    static final class CountingOutputStream extends OutputStream {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.portfolio.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * In-memory stand-ins for Spring Data repositories. Answers are keyed by
+ * {@code methodName/argCount}; any other call fails loudly so a benchmark
+ * never silently measures a null result.
+ */
+final class RepositoryStubs {
+
+    private RepositoryStubs() {
+    }
+
+    static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (self, method, args) -> {
+            String name = method.getName();
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (name) {
+                    case "equals" -> self == args[0];
+                    case "hashCode" -> System.identityHashCode(self);
+                    default -> type.getSimpleName() + "Stub";
+                };
+            }
+
+            Function<Object[], Object> answer = answers.get(name + "/" + (args != null ? args.length : 0));
+            if (answer == null) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + name + " is not stubbed");
+            }
+            return answer.apply(args);
+        });
+        return type.cast(proxy);
+    }
+}
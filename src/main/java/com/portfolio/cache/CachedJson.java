@@ -0,0 +1,7 @@
+package com.portfolio.cache;
+
+/**
+ * A response body already serialized to JSON, with a strong ETag over its bytes.
+ */
+public record CachedJson(byte[] body, String etag) {
+}
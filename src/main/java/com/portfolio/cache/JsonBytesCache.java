@@ -0,0 +1,141 @@
+package com.portfolio.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.util.DigestUtils;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Entry-bounded LRU of JSON response bodies with a time-to-live. Values are
+ * serialized once on a miss; hits hand back the same bytes and ETag.
+ *
+ * <p>Concurrent misses for one key share a single load: the first caller runs
+ * the loader and the rest wait for its result (or its exception).
+ *
+ * <p>Every invalidation bumps a generation counter and detaches in-flight
+ * loads. A load that started before an invalidation is returned to the callers
+ * already waiting on it but not stored, so a reader racing a write cannot put
+ * pre-commit data back into the cache.
+ */
+public class JsonBytesCache<K> {
+
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+    private final long ttlNanos;
+
+    private final LinkedHashMap<K, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ConcurrentHashMap<K, CompletableFuture<CachedJson>> loading = new ConcurrentHashMap<>();
+    private long generation;
+
+    public JsonBytesCache(ObjectMapper objectMapper, int maxEntries, Duration ttl) {
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public CachedJson get(K key, Supplier<?> loader) {
+        CachedJson cached = lookup(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<CachedJson> load = new CompletableFuture<>();
+        CompletableFuture<CachedJson> pending = loading.putIfAbsent(key, load);
+        if (pending != null) {
+            return await(pending);
+        }
+
+        try {
+            long loadGeneration;
+            synchronized (this) {
+                loadGeneration = generation;
+            }
+            // Another load may have finished between the lookup and claiming the key
+            CachedJson value = lookup(key);
+            if (value == null) {
+                value = serialize(loader.get());
+                store(key, value, loadGeneration);
+            }
+            load.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, load);
+        }
+    }
+
+    public synchronized void invalidate(K key) {
+        generation++;
+        entries.remove(key);
+        loading.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+        loading.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized CachedJson lookup(K key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.expiresAt() < 0) {
+            return entry.value();
+        }
+        entries.remove(key);
+        return null;
+    }
+
+    private synchronized void store(K key, CachedJson value, long loadGeneration) {
+        if (maxEntries <= 0 || loadGeneration != generation) {
+            return;
+        }
+
+        entries.put(key, new Entry(value, System.nanoTime() + ttlNanos));
+        var it = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private CachedJson serialize(Object value) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(value);
+            return new CachedJson(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize cached response", e);
+        }
+    }
+
+    private static CachedJson await(CompletableFuture<CachedJson> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Entry(CachedJson value, long expiresAt) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.portfolio.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Runs the {@code @Scheduled} jobs unless {@code app.scheduling.enabled} is
+ * false, which lets tests drive them by hand.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "app.scheduling.enabled", matchIfMissing = true)
+public class SchedulingConfig {
+}
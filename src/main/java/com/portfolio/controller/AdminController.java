@@ -3,7 +3,9 @@ package com.portfolio.controller;
 import com.portfolio.dto.UserRequest;
 import com.portfolio.dto.UserResponse;
 import com.portfolio.dto.AdvisoryResponse;
+import com.portfolio.dto.ReminderStatusResponse;
 import com.portfolio.model.AdvisoryStatus;
+import com.portfolio.scheduler.AdvisoryReminderScheduler;
 import com.portfolio.service.UserService;
 import com.portfolio.service.AdvisoryService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -28,6 +30,7 @@ public class AdminController {
 
     private final UserService userService;
     private final AdvisoryService advisoryService;
+    private final AdvisoryReminderScheduler advisoryReminderScheduler;
 
     @GetMapping("/programmers")
     @Operation(summary = "List all programmers", description = "Get paginated list of programmers (Admin only)")
@@ -83,4 +86,10 @@ public class AdminController {
     public ResponseEntity<AdvisoryResponse> getAdvisory(@PathVariable UUID id) {
         return ResponseEntity.ok(advisoryService.findById(id));
     }
+
+    @GetMapping("/reminders/status")
+    @Operation(summary = "Reminder status", description = "Scheduled and sent reminders and the current or last reminder load")
+    public ResponseEntity<ReminderStatusResponse> getReminderStatus() {
+        return ResponseEntity.ok(advisoryReminderScheduler.getStatus());
+    }
 }
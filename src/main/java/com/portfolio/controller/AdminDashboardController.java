@@ -3,15 +3,18 @@ package com.portfolio.controller;
 import com.portfolio.dto.DashboardStats;
 import com.portfolio.security.UserPrincipal;
 import com.portfolio.service.DashboardService;
+import com.portfolio.service.DashboardStreamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/admin/dashboard")
@@ -21,10 +24,18 @@ import org.springframework.web.bind.annotation.RestController;
 public class AdminDashboardController {
 
     private final DashboardService dashboardService;
+    private final DashboardStreamService dashboardStreamService;
 
     @GetMapping
     @Operation(summary = "Get global dashboard", description = "Get global statistics for admin")
     public ResponseEntity<DashboardStats> getGlobalDashboard() {
         return ResponseEntity.ok(dashboardService.getGlobalStats());
     }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream global dashboard",
+            description = "Server-Sent Events: a 'snapshot' with the full stats, then 'delta' events with changed values")
+    public SseEmitter streamGlobalDashboard() {
+        return dashboardStreamService.subscribe();
+    }
 }
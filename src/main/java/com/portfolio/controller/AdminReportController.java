@@ -1,23 +1,42 @@
 package com.portfolio.controller;
 
-import com.lowagie.text.DocumentException;
+import com.portfolio.dto.ReportJobRequest;
+import com.portfolio.dto.ReportJobResponse;
+import com.portfolio.exception.BadRequestException;
 import com.portfolio.model.AdvisoryStatus;
 import com.portfolio.model.ProjectStatus;
-import com.portfolio.service.ReportService;
+import com.portfolio.report.ReportBundle;
+import com.portfolio.report.ReportFormat;
+import com.portfolio.report.ReportJob;
+import com.portfolio.report.ReportSpec;
+import com.portfolio.report.ReportType;
+import com.portfolio.service.ReportBundleService;
+import com.portfolio.service.ReportCacheService;
+import com.portfolio.service.ReportJobService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.IOException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
@@ -27,67 +46,189 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class AdminReportController {
 
-    private final ReportService reportService;
+    private final ReportCacheService reportCacheService;
+    private final ReportJobService reportJobService;
+    private final ReportBundleService reportBundleService;
 
     @GetMapping("/advisories/pdf")
     @Operation(summary = "Export advisories PDF", description = "Generate PDF report of advisories with filters")
-    public ResponseEntity<byte[]> exportAdvisoriesPdf(
+    public ResponseEntity<StreamingResponseBody> exportAdvisoriesPdf(
             @RequestParam(required = false) UUID programmerId,
             @RequestParam(required = false) AdvisoryStatus status,
             @RequestParam(required = false) LocalDate startDate,
-            @RequestParam(required = false) LocalDate endDate) throws DocumentException {
-        byte[] pdf = reportService.generateAdvisoriesPdfForAdmin(programmerId, status, startDate, endDate);
-
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=asesorias-admin.pdf")
-                .contentType(MediaType.APPLICATION_PDF)
-                .body(pdf);
+            @RequestParam(required = false) LocalDate endDate,
+            WebRequest webRequest) {
+        return cachedReport(ReportSpec.of(ReportType.ADVISORIES, ReportFormat.PDF, programmerId,
+                status != null ? status.name() : null, startDate, endDate), webRequest);
     }
 
     @GetMapping("/advisories/excel")
     @Operation(summary = "Export advisories Excel", description = "Generate Excel report of advisories with filters")
-    public ResponseEntity<byte[]> exportAdvisoriesExcel(
+    public ResponseEntity<StreamingResponseBody> exportAdvisoriesExcel(
             @RequestParam(required = false) UUID programmerId,
             @RequestParam(required = false) AdvisoryStatus status,
             @RequestParam(required = false) LocalDate startDate,
-            @RequestParam(required = false) LocalDate endDate) throws IOException {
-        byte[] excel = reportService.generateAdvisoriesExcelForAdmin(programmerId, status, startDate, endDate);
+            @RequestParam(required = false) LocalDate endDate,
+            WebRequest webRequest) {
+        return cachedReport(ReportSpec.of(ReportType.ADVISORIES, ReportFormat.EXCEL, programmerId,
+                status != null ? status.name() : null, startDate, endDate), webRequest);
+    }
 
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=asesorias-admin.xlsx")
-                .contentType(
-                        MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                .body(excel);
+    @GetMapping("/advisories/csv")
+    @Operation(summary = "Export advisories CSV", description = "Stream advisories as CSV with filters, gzipped when accepted")
+    public ResponseEntity<StreamingResponseBody> exportAdvisoriesCsv(
+            @RequestParam(required = false) UUID programmerId,
+            @RequestParam(required = false) AdvisoryStatus status,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate,
+            WebRequest webRequest) {
+        return cachedReport(ReportSpec.of(ReportType.ADVISORIES, ReportFormat.CSV, programmerId,
+                status != null ? status.name() : null, startDate, endDate), webRequest);
+    }
+
+    @GetMapping("/advisories/ndjson")
+    @Operation(summary = "Export advisories NDJSON", description = "Stream advisories as NDJSON with filters, gzipped when accepted")
+    public ResponseEntity<StreamingResponseBody> exportAdvisoriesNdjson(
+            @RequestParam(required = false) UUID programmerId,
+            @RequestParam(required = false) AdvisoryStatus status,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate,
+            WebRequest webRequest) {
+        return cachedReport(ReportSpec.of(ReportType.ADVISORIES, ReportFormat.NDJSON, programmerId,
+                status != null ? status.name() : null, startDate, endDate), webRequest);
     }
 
     @GetMapping("/projects/pdf")
     @Operation(summary = "Export projects PDF", description = "Generate PDF report of projects with filters")
-    public ResponseEntity<byte[]> exportProjectsPdf(
+    public ResponseEntity<StreamingResponseBody> exportProjectsPdf(
             @RequestParam(required = false) UUID programmerId,
             @RequestParam(required = false) ProjectStatus status,
             @RequestParam(required = false) LocalDate startDate,
-            @RequestParam(required = false) LocalDate endDate) throws DocumentException {
-        byte[] pdf = reportService.generateProjectsPdfForAdmin(programmerId, status, startDate, endDate);
-
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=proyectos-admin.pdf")
-                .contentType(MediaType.APPLICATION_PDF)
-                .body(pdf);
+            @RequestParam(required = false) LocalDate endDate,
+            WebRequest webRequest) {
+        return cachedReport(ReportSpec.of(ReportType.PROJECTS, ReportFormat.PDF, programmerId,
+                status != null ? status.name() : null, startDate, endDate), webRequest);
     }
 
     @GetMapping("/projects/excel")
     @Operation(summary = "Export projects Excel", description = "Generate Excel report of projects with filters")
-    public ResponseEntity<byte[]> exportProjectsExcel(
+    public ResponseEntity<StreamingResponseBody> exportProjectsExcel(
+            @RequestParam(required = false) UUID programmerId,
+            @RequestParam(required = false) ProjectStatus status,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate,
+            WebRequest webRequest) {
+        return cachedReport(ReportSpec.of(ReportType.PROJECTS, ReportFormat.EXCEL, programmerId,
+                status != null ? status.name() : null, startDate, endDate), webRequest);
+    }
+
+    @GetMapping("/projects/csv")
+    @Operation(summary = "Export projects CSV", description = "Stream projects as CSV with filters, gzipped when accepted")
+    public ResponseEntity<StreamingResponseBody> exportProjectsCsv(
+            @RequestParam(required = false) UUID programmerId,
+            @RequestParam(required = false) ProjectStatus status,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate,
+            WebRequest webRequest) {
+        return cachedReport(ReportSpec.of(ReportType.PROJECTS, ReportFormat.CSV, programmerId,
+                status != null ? status.name() : null, startDate, endDate), webRequest);
+    }
+
+    @GetMapping("/projects/ndjson")
+    @Operation(summary = "Export projects NDJSON", description = "Stream projects as NDJSON with filters, gzipped when accepted")
+    public ResponseEntity<StreamingResponseBody> exportProjectsNdjson(
             @RequestParam(required = false) UUID programmerId,
             @RequestParam(required = false) ProjectStatus status,
             @RequestParam(required = false) LocalDate startDate,
-            @RequestParam(required = false) LocalDate endDate) throws IOException {
-        byte[] excel = reportService.generateProjectsExcelForAdmin(programmerId, status, startDate, endDate);
+            @RequestParam(required = false) LocalDate endDate,
+            WebRequest webRequest) {
+        return cachedReport(ReportSpec.of(ReportType.PROJECTS, ReportFormat.NDJSON, programmerId,
+                status != null ? status.name() : null, startDate, endDate), webRequest);
+    }
+
+    // ============ BUNDLES ============
+
+    @GetMapping("/bundle")
+    @Operation(summary = "Export report bundle",
+            description = "Render several reports concurrently for one filter set and download them as a ZIP")
+    public ResponseEntity<StreamingResponseBody> exportBundle(
+            @RequestParam(defaultValue = "ADVISORIES,PROJECTS") Set<ReportType> types,
+            @RequestParam(defaultValue = "PDF,EXCEL") Set<ReportFormat> formats,
+            @RequestParam(required = false) UUID programmerId,
+            @RequestParam(required = false) AdvisoryStatus advisoryStatus,
+            @RequestParam(required = false) ProjectStatus projectStatus,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate) {
+        List<ReportSpec> specs = new ArrayList<>();
+        for (ReportType type : types) {
+            String status = type == ReportType.ADVISORIES
+                    ? (advisoryStatus != null ? advisoryStatus.name() : null)
+                    : (projectStatus != null ? projectStatus.name() : null);
+            for (ReportFormat format : formats) {
+                specs.add(ReportSpec.of(type, format, programmerId, status, startDate, endDate));
+            }
+        }
+        if (specs.isEmpty()) {
+            throw new BadRequestException("Debe solicitar al menos un reporte");
+        }
+
+        ReportBundle bundle = reportBundleService.submit(specs);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=reportes-admin.zip")
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .body(bundle::writeTo);
+    }
+
+    // ============ ASYNC JOBS ============
+
+    @PostMapping("/jobs")
+    @Operation(summary = "Submit report job", description = "Queue a report for background generation")
+    public ResponseEntity<ReportJobResponse> submitJob(@Valid @RequestBody ReportJobRequest request) {
+        ReportSpec spec = ReportSpec.of(request.getType(), request.getFormat(), request.getProgrammerId(),
+                request.getStatus(), request.getStartDate(), request.getEndDate());
+
+        ReportJobResponse job = reportJobService.submit(spec);
+        // Lets a load balancer route the job's status and download requests to the node holding it
+        ResponseCookie nodeCookie = ResponseCookie.from(ReportJobService.NODE_COOKIE, job.getNode())
+                .path("/api/admin/reports/jobs")
+                .httpOnly(true)
+                .build();
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .header(HttpHeaders.SET_COOKIE, nodeCookie.toString())
+                .body(job);
+    }
+
+    @GetMapping("/jobs/{id}")
+    @Operation(summary = "Get report job", description = "Poll the status of a report job")
+    public ResponseEntity<ReportJobResponse> getJob(@PathVariable UUID id) {
+        return ResponseEntity.ok(reportJobService.getStatus(id));
+    }
+
+    @GetMapping("/jobs/{id}/download")
+    @Operation(summary = "Download report job", description = "Download the result of a completed report job")
+    public ResponseEntity<StreamingResponseBody> downloadJob(@PathVariable UUID id) {
+        ReportJob job = reportJobService.getCompletedJob(id);
 
         return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=proyectos-admin.xlsx")
-                .contentType(
-                        MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                .body(excel);
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + job.getSpec().fileName())
+                .contentType(job.getSpec().format().getMediaType())
+                .contentLength(job.getSizeBytes())
+                .body(out -> reportJobService.download(job, out));
+    }
+
+    private ResponseEntity<StreamingResponseBody> cachedReport(ReportSpec spec, WebRequest webRequest) {
+        String key = reportCacheService.computeKey(spec);
+        boolean gzip = ReportResponses.shouldGzip(spec.format(), webRequest);
+        // Each content encoding is a distinct representation and needs its own ETag
+        String etag = "\"" + key + (gzip ? "-gzip" : "") + "\"";
+        // Sets the ETag header on the response and handles If-None-Match
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        StreamingResponseBody body = out -> reportCacheService.write(spec, key, out);
+        return ReportResponses.attachment(spec.format(), spec.fileName(), gzip, body);
     }
 }
@@ -1,42 +1,110 @@
 package com.portfolio.controller;
 
+import com.portfolio.cache.CachedJson;
 import com.portfolio.dto.PortfolioResponse;
+import com.portfolio.dto.ProgrammerSearchResponse;
+import com.portfolio.dto.SlotResponse;
 import com.portfolio.dto.UserResponse;
+import com.portfolio.model.ProjectStatus;
+import com.portfolio.model.ProjectType;
+import com.portfolio.search.ProgrammerSearchCriteria;
+import com.portfolio.search.TechnologyMatch;
+import com.portfolio.service.ProgrammerSearchService;
+import com.portfolio.service.PublicCacheService;
+import com.portfolio.service.SlotService;
 import com.portfolio.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/public")
 @Tag(name = "Public", description = "Public endpoints (no authentication required)")
-@RequiredArgsConstructor
 public class PublicController {
 
     private final UserService userService;
+    private final PublicCacheService publicCacheService;
+    private final ProgrammerSearchService programmerSearchService;
+    private final SlotService slotService;
+    private final CacheControl publicCacheControl;
+
+    public PublicController(
+            UserService userService,
+            PublicCacheService publicCacheService,
+            ProgrammerSearchService programmerSearchService,
+            SlotService slotService,
+            @Value("${app.cache.public.max-age:60s}") Duration publicMaxAge) {
+        this.userService = userService;
+        this.publicCacheService = publicCacheService;
+        this.programmerSearchService = programmerSearchService;
+        this.slotService = slotService;
+        this.publicCacheControl = CacheControl.maxAge(publicMaxAge).cachePublic();
+    }
 
     @GetMapping("/programmers")
     @Operation(summary = "List programmers", description = "Get paginated list of active programmers")
-    public ResponseEntity<Page<UserResponse>> listProgrammers(Pageable pageable) {
-        return ResponseEntity.ok(userService.findProgrammers(pageable));
+    public ResponseEntity<byte[]> listProgrammers(Pageable pageable, WebRequest webRequest) {
+        return cachedJson(publicCacheService.listProgrammers(pageable), webRequest);
+    }
+
+    @GetMapping("/programmers/search")
+    @Operation(summary = "Search programmers",
+            description = "Filter programmers by technologies (ALL/ANY), project type, project status and "
+                    + "text over name/bio, with per-technology facet counts")
+    public ResponseEntity<ProgrammerSearchResponse> searchProgrammers(
+            @RequestParam(required = false) Set<String> technologies,
+            @RequestParam(defaultValue = "ALL") TechnologyMatch match,
+            @RequestParam(required = false) ProjectType projectType,
+            @RequestParam(required = false) ProjectStatus projectStatus,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        ProgrammerSearchCriteria criteria = new ProgrammerSearchCriteria(
+                technologies, match, projectType, projectStatus, q);
+        return ResponseEntity.ok(programmerSearchService.search(criteria, page, size));
     }
 
     @GetMapping("/programmers/{id}")
     @Operation(summary = "Get programmer", description = "Get programmer details by ID")
-    public ResponseEntity<UserResponse> getProgrammer(@PathVariable UUID id) {
-        return ResponseEntity.ok(userService.findById(id));
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = UserResponse.class)))
+    public ResponseEntity<byte[]> getProgrammer(@PathVariable UUID id, WebRequest webRequest) {
+        return cachedJson(publicCacheService.getProgrammer(id), webRequest);
     }
 
     @GetMapping("/programmers/{id}/portfolio")
     @Operation(summary = "Get portfolio", description = "Get complete portfolio with projects and availability")
-    public ResponseEntity<PortfolioResponse> getPortfolio(@PathVariable UUID id) {
-        return ResponseEntity.ok(userService.getPortfolio(id));
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = PortfolioResponse.class)))
+    public ResponseEntity<byte[]> getPortfolio(@PathVariable UUID id, WebRequest webRequest) {
+        return cachedJson(publicCacheService.getPortfolio(id), webRequest);
+    }
+
+    @GetMapping("/programmers/{id}/slots")
+    @Operation(summary = "Get free slots",
+            description = "Free 30-minute slots between two dates (inclusive, default the next 7 days)")
+    public ResponseEntity<List<SlotResponse>> getFreeSlots(
+            @PathVariable UUID id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(slotService.findFreeSlots(id, from, to));
     }
 
     @GetMapping("/users/{id}")
@@ -44,4 +112,17 @@ public class PublicController {
     public ResponseEntity<UserResponse> getUser(@PathVariable UUID id) {
         return ResponseEntity.ok(userService.findById(id));
     }
+
+    private ResponseEntity<byte[]> cachedJson(CachedJson response, WebRequest webRequest) {
+        if (webRequest.checkNotModified(response.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(publicCacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(publicCacheControl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response.body());
+    }
 }
@@ -1,20 +1,19 @@
 package com.portfolio.controller;
 
-import com.lowagie.text.DocumentException;
+import com.portfolio.report.ReportFormat;
 import com.portfolio.security.UserPrincipal;
 import com.portfolio.service.ReportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import java.io.IOException;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/programmer/reports")
@@ -27,51 +26,71 @@ public class ReportController {
 
     @GetMapping("/advisories/pdf")
     @Operation(summary = "Export advisories PDF", description = "Generate PDF report of advisories")
-    public ResponseEntity<byte[]> exportAdvisoriesPdf(@AuthenticationPrincipal UserPrincipal principal)
-            throws DocumentException {
-        byte[] pdf = reportService.generateAdvisoriesPdf(principal.getId());
-
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=asesorias.pdf")
-                .contentType(MediaType.APPLICATION_PDF)
-                .body(pdf);
+    public ResponseEntity<StreamingResponseBody> exportAdvisoriesPdf(
+            @AuthenticationPrincipal UserPrincipal principal, WebRequest webRequest) {
+        return export(ReportFormat.PDF, "asesorias", webRequest,
+                out -> reportService.writeAdvisories(principal.getId(), ReportFormat.PDF, out));
     }
 
     @GetMapping("/advisories/excel")
     @Operation(summary = "Export advisories Excel", description = "Generate Excel report of advisories")
-    public ResponseEntity<byte[]> exportAdvisoriesExcel(@AuthenticationPrincipal UserPrincipal principal)
-            throws IOException {
-        byte[] excel = reportService.generateAdvisoriesExcel(principal.getId());
+    public ResponseEntity<StreamingResponseBody> exportAdvisoriesExcel(
+            @AuthenticationPrincipal UserPrincipal principal, WebRequest webRequest) {
+        return export(ReportFormat.EXCEL, "asesorias", webRequest,
+                out -> reportService.writeAdvisories(principal.getId(), ReportFormat.EXCEL, out));
+    }
 
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=asesorias.xlsx")
-                .contentType(
-                        MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                .body(excel);
+    @GetMapping("/advisories/csv")
+    @Operation(summary = "Export advisories CSV", description = "Stream advisories as CSV, gzipped when accepted")
+    public ResponseEntity<StreamingResponseBody> exportAdvisoriesCsv(
+            @AuthenticationPrincipal UserPrincipal principal, WebRequest webRequest) {
+        return export(ReportFormat.CSV, "asesorias", webRequest,
+                out -> reportService.writeAdvisories(principal.getId(), ReportFormat.CSV, out));
+    }
+
+    @GetMapping("/advisories/ndjson")
+    @Operation(summary = "Export advisories NDJSON", description = "Stream advisories as NDJSON, gzipped when accepted")
+    public ResponseEntity<StreamingResponseBody> exportAdvisoriesNdjson(
+            @AuthenticationPrincipal UserPrincipal principal, WebRequest webRequest) {
+        return export(ReportFormat.NDJSON, "asesorias", webRequest,
+                out -> reportService.writeAdvisories(principal.getId(), ReportFormat.NDJSON, out));
     }
 
     @GetMapping("/projects/pdf")
     @Operation(summary = "Export projects PDF", description = "Generate PDF report of projects")
-    public ResponseEntity<byte[]> exportProjectsPdf(@AuthenticationPrincipal UserPrincipal principal)
-            throws DocumentException {
-        byte[] pdf = reportService.generateProjectsPdf(principal.getId());
-
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=proyectos.pdf")
-                .contentType(MediaType.APPLICATION_PDF)
-                .body(pdf);
+    public ResponseEntity<StreamingResponseBody> exportProjectsPdf(
+            @AuthenticationPrincipal UserPrincipal principal, WebRequest webRequest) {
+        return export(ReportFormat.PDF, "proyectos", webRequest,
+                out -> reportService.writeProjects(principal.getId(), ReportFormat.PDF, out));
     }
 
     @GetMapping("/projects/excel")
     @Operation(summary = "Export projects Excel", description = "Generate Excel report of projects")
-    public ResponseEntity<byte[]> exportProjectsExcel(@AuthenticationPrincipal UserPrincipal principal)
-            throws IOException {
-        byte[] excel = reportService.generateProjectsExcel(principal.getId());
+    public ResponseEntity<StreamingResponseBody> exportProjectsExcel(
+            @AuthenticationPrincipal UserPrincipal principal, WebRequest webRequest) {
+        return export(ReportFormat.EXCEL, "proyectos", webRequest,
+                out -> reportService.writeProjects(principal.getId(), ReportFormat.EXCEL, out));
+    }
+
+    @GetMapping("/projects/csv")
+    @Operation(summary = "Export projects CSV", description = "Stream projects as CSV, gzipped when accepted")
+    public ResponseEntity<StreamingResponseBody> exportProjectsCsv(
+            @AuthenticationPrincipal UserPrincipal principal, WebRequest webRequest) {
+        return export(ReportFormat.CSV, "proyectos", webRequest,
+                out -> reportService.writeProjects(principal.getId(), ReportFormat.CSV, out));
+    }
+
+    @GetMapping("/projects/ndjson")
+    @Operation(summary = "Export projects NDJSON", description = "Stream projects as NDJSON, gzipped when accepted")
+    public ResponseEntity<StreamingResponseBody> exportProjectsNdjson(
+            @AuthenticationPrincipal UserPrincipal principal, WebRequest webRequest) {
+        return export(ReportFormat.NDJSON, "proyectos", webRequest,
+                out -> reportService.writeProjects(principal.getId(), ReportFormat.NDJSON, out));
+    }
 
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=proyectos.xlsx")
-                .contentType(
-                        MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                .body(excel);
+    private ResponseEntity<StreamingResponseBody> export(ReportFormat format, String baseName,
+            WebRequest webRequest, StreamingResponseBody body) {
+        boolean gzip = ReportResponses.shouldGzip(format, webRequest);
+        return ReportResponses.attachment(format, baseName + "." + format.getExtension(), gzip, body);
     }
 }
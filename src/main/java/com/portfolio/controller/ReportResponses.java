@@ -0,0 +1,65 @@
+package com.portfolio.controller;
+
+import com.portfolio.report.ReportFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Builds streamed report downloads. Text formats are gzipped on the fly when the
+ * client accepts it, so large CSV/NDJSON exports never exist uncompressed in
+ * memory or on the wire.
+ */
+final class ReportResponses {
+
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    private ReportResponses() {
+    }
+
+    static boolean shouldGzip(ReportFormat format, WebRequest webRequest) {
+        return format.isCompressible() && acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    static ResponseEntity<StreamingResponseBody> attachment(ReportFormat format, String fileName,
+            boolean gzip, StreamingResponseBody body) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + fileName)
+                .contentType(format.getMediaType());
+
+        if (format.isCompressible()) {
+            builder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (!gzip) {
+            return builder.body(body);
+        }
+
+        return builder
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .body(out -> {
+                    GZIPOutputStream gzipOut = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+                    body.writeTo(gzipOut);
+                    gzipOut.finish();
+                    gzipOut.flush();
+                });
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (!name.equalsIgnoreCase("gzip") && !name.equals("*")) {
+                continue;
+            }
+            boolean refused = parts.length > 1 && parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            return !refused;
+        }
+        return false;
+    }
+}
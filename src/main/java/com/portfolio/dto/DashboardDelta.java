@@ -0,0 +1,33 @@
+package com.portfolio.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Changes between two {@link DashboardStats} snapshots. Only changed fields are
+ * present, and every value is the new absolute value rather than an increment,
+ * so applying a delta twice is harmless. Entries that disappeared are sent with
+ * a count of zero.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DashboardDelta {
+    private Map<String, Long> advisoryCountByStatus;
+    private List<DashboardStats.TimeSeriesData> advisoryTimeSeries;
+    private List<DashboardStats.TechnologyCount> topTechnologies;
+    private List<DashboardStats.UserCount> advisoriesByProgrammer;
+    private List<DashboardStats.UserCount> projectsByProgrammer;
+    private Long totalProjects;
+    private Long totalAdvisories;
+    private Long pendingAdvisories;
+    private Long completedAdvisories;
+}
@@ -0,0 +1,27 @@
+package com.portfolio.dto;
+
+import com.portfolio.scheduler.ReminderRunStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReminderRunResponse {
+    private UUID id;
+    private ReminderRunStatus status;
+    private LocalDateTime windowStart;
+    private LocalDateTime windowEnd;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private Long durationMs;
+    private int pages;
+    private int advisories;
+    private String errorMessage;
+}
@@ -0,0 +1,23 @@
+package com.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReminderStatusResponse {
+    private String node;
+    private boolean leader;
+    private Duration leadTime;
+    private int scheduledReminders;
+    private long sentReminders;
+    private long skippedReminders;
+    private long failedReminders;
+    private ReminderRunResponse lastRun;
+}
@@ -0,0 +1,29 @@
+package com.portfolio.dto;
+
+import com.portfolio.report.ReportFormat;
+import com.portfolio.report.ReportType;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportJobRequest {
+    @NotNull(message = "El tipo de reporte es requerido")
+    private ReportType type;
+
+    @NotNull(message = "El formato es requerido")
+    private ReportFormat format;
+
+    private UUID programmerId;
+    private String status;
+    private LocalDate startDate;
+    private LocalDate endDate;
+}
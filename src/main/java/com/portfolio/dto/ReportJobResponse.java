@@ -0,0 +1,30 @@
+package com.portfolio.dto;
+
+import com.portfolio.report.ReportFormat;
+import com.portfolio.report.ReportJobStatus;
+import com.portfolio.report.ReportType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportJobResponse {
+    private UUID id;
+    private ReportType type;
+    private ReportFormat format;
+    private ReportJobStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private Long sizeBytes;
+    private String errorMessage;
+    private String downloadUrl;
+    private String node;
+}
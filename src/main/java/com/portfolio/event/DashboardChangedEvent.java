@@ -0,0 +1,8 @@
+package com.portfolio.event;
+
+/**
+ * Published whenever dashboard counters change: advisory or project writes and
+ * rollup rebuilds.
+ */
+public record DashboardChangedEvent() {
+}
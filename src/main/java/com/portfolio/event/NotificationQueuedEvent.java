@@ -0,0 +1,8 @@
+package com.portfolio.event;
+
+/**
+ * Published when notifications are written to the outbox, so the dispatcher
+ * can deliver them as soon as the transaction commits.
+ */
+public record NotificationQueuedEvent() {
+}
@@ -0,0 +1,10 @@
+package com.portfolio.event;
+
+import java.util.UUID;
+
+/**
+ * Published whenever data shown on a programmer's public profile changes:
+ * the user record itself, their projects or their availability.
+ */
+public record ProgrammerChangedEvent(UUID programmerId) {
+}
@@ -0,0 +1,10 @@
+package com.portfolio.event;
+
+import java.util.UUID;
+
+/**
+ * Published when an advisory is booked, approved, or stops holding a slot in
+ * a programmer's calendar.
+ */
+public record ScheduleChangedEvent(UUID programmerId, UUID advisoryId) {
+}
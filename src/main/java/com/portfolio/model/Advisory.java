@@ -43,6 +43,9 @@ public class Advisory {
     @Column(name = "response_message", columnDefinition = "TEXT")
     private String responseMessage;
 
+    @Column(name = "reminder_sent_at")
+    private LocalDateTime reminderSentAt;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
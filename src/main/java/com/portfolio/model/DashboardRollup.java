@@ -0,0 +1,44 @@
+package com.portfolio.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * One dashboard counter. Undated metrics use {@link #UNDATED} as their date so
+ * every row has the same primary key shape.
+ */
+@Entity
+@Table(name = "dashboard_rollup")
+@IdClass(DashboardRollupId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardRollup {
+
+    public static final LocalDate UNDATED = LocalDate.EPOCH;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RollupMetric metric;
+
+    @Id
+    @Column(name = "programmer_id", nullable = false)
+    private UUID programmerId;
+
+    @Id
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String dimension;
+
+    @Id
+    @Column(name = "activity_date", nullable = false)
+    private LocalDate activityDate;
+
+    @Column(nullable = false)
+    private long total;
+}
@@ -0,0 +1,19 @@
+package com.portfolio.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardRollupId implements Serializable {
+    private RollupMetric metric;
+    private UUID programmerId;
+    private String dimension;
+    private LocalDate activityDate;
+}
@@ -0,0 +1,7 @@
+package com.portfolio.model;
+
+public enum RollupMetric {
+    ADVISORY,
+    PROJECT,
+    TECHNOLOGY
+}
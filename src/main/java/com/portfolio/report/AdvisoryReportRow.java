@@ -0,0 +1,21 @@
+package com.portfolio.report;
+
+import com.portfolio.model.AdvisoryStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Flat advisory row read by report queries. Programmer and external user
+ * columns are joined in SQL so rendering never touches lazy associations.
+ */
+public record AdvisoryReportRow(
+        UUID id,
+        String programmerName,
+        String externalName,
+        String externalEmail,
+        LocalDateTime scheduledAt,
+        AdvisoryStatus status,
+        String requestComment,
+        String responseMessage) {
+}
@@ -0,0 +1,52 @@
+package com.portfolio.report;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Passes bytes through to the target stream while keeping a copy, until the copy
+ * would exceed {@code maxCaptureBytes}. Past that point the copy is dropped and
+ * only the pass-through continues, so large documents are never held in memory.
+ */
+public class CapturingOutputStream extends FilterOutputStream {
+
+    private final int maxCaptureBytes;
+    private ByteArrayOutputStream capture = new ByteArrayOutputStream();
+
+    public CapturingOutputStream(OutputStream target, int maxCaptureBytes) {
+        super(target);
+        this.maxCaptureBytes = maxCaptureBytes;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        capture(new byte[] { (byte) b }, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        capture(b, off, len);
+    }
+
+    /**
+     * Returns the captured bytes, or {@code null} if the output outgrew the limit.
+     */
+    public byte[] getCaptured() {
+        return capture != null ? capture.toByteArray() : null;
+    }
+
+    private void capture(byte[] b, int off, int len) {
+        if (capture == null) {
+            return;
+        }
+        if (capture.size() + len > maxCaptureBytes) {
+            capture = null;
+            return;
+        }
+        capture.write(b, off, len);
+    }
+}
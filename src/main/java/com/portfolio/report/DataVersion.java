@@ -0,0 +1,15 @@
+package com.portfolio.report;
+
+import java.time.LocalDateTime;
+
+/**
+ * Change watermark of a table: newest {@code updated_at} plus row count, so that
+ * deletions move the version as well as inserts and updates.
+ */
+public record DataVersion(LocalDateTime maxUpdatedAt, long rowCount) {
+
+    @Override
+    public String toString() {
+        return maxUpdatedAt + "/" + rowCount;
+    }
+}
@@ -0,0 +1,28 @@
+package com.portfolio.report;
+
+import com.portfolio.model.ProjectStatus;
+import com.portfolio.model.ProjectType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Flat project row read by report queries, with the owner's name joined in SQL.
+ */
+public record ProjectReportRow(
+        UUID id,
+        String programmerName,
+        String title,
+        String description,
+        ProjectType projectType,
+        String roleInProject,
+        String[] technologies,
+        ProjectStatus status,
+        String repoUrl,
+        String demoUrl,
+        LocalDateTime createdAt) {
+
+    public String technologiesOr(String fallback) {
+        return technologies != null ? String.join(", ", technologies) : fallback;
+    }
+}
@@ -0,0 +1,81 @@
+package com.portfolio.report;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * A set of reports rendering concurrently into spool files, one render per
+ * dataset producing an entry per format. {@link #writeTo} adds each render's
+ * entries to the ZIP as soon as it finishes, in completion order, so the
+ * archive is ready roughly when the slowest render is.
+ */
+@Slf4j
+public class ReportBundle {
+
+    public record Entry(String name, Path file) {
+    }
+
+    private record Completion(List<Entry> entries, Throwable error) {
+    }
+
+    private final List<CompletableFuture<List<Entry>>> renders;
+    private final BlockingQueue<Completion> completed = new LinkedBlockingQueue<>();
+
+    public ReportBundle(List<CompletableFuture<List<Entry>>> renders) {
+        this.renders = renders;
+        renders.forEach(render -> render.whenComplete(
+                (entries, error) -> completed.add(new Completion(entries, error))));
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out);
+        try {
+            for (int i = 0; i < renders.size(); i++) {
+                Completion completion = completed.take();
+                if (completion.error() != null) {
+                    throw new IOException("No se pudo generar el paquete de reportes", completion.error());
+                }
+
+                for (Entry entry : completion.entries()) {
+                    zip.putNextEntry(new ZipEntry(entry.name()));
+                    Files.copy(entry.file(), zip);
+                    zip.closeEntry();
+                    deleteQuietly(entry.file());
+                }
+            }
+            // Ends the archive without closing the response stream
+            zip.finish();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Generación del paquete de reportes interrumpida", e);
+        } finally {
+            discard();
+        }
+    }
+
+    /**
+     * Deletes every spool file, including those of renders still in progress.
+     */
+    public void discard() {
+        renders.forEach(render -> render.thenAccept(
+                entries -> entries.forEach(entry -> deleteQuietly(entry.file()))));
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete bundle spool file {}: {}", file, e.getMessage());
+        }
+    }
+}
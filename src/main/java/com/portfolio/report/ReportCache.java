@@ -0,0 +1,142 @@
+package com.portfolio.report;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Size-bounded LRU of rendered reports keyed by content hash. Entries evicted
+ * from memory spill to {@code diskDir} when one is configured, which is itself
+ * bounded and evicted in LRU order. File IO happens outside the lock.
+ */
+@Slf4j
+public class ReportCache {
+
+    private final long maxMemoryBytes;
+    private final Path diskDir;
+    private final long maxDiskBytes;
+
+    private final LinkedHashMap<String, byte[]> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, Long> disk = new LinkedHashMap<>(16, 0.75f, true);
+    private long memoryBytes;
+    private long diskBytes;
+
+    public ReportCache(long maxMemoryBytes, Path diskDir, long maxDiskBytes) {
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.diskDir = diskDir;
+        this.maxDiskBytes = maxDiskBytes;
+    }
+
+    public byte[] get(String key) {
+        synchronized (this) {
+            byte[] cached = memory.get(key);
+            if (cached != null || !disk.containsKey(key)) {
+                return cached;
+            }
+        }
+
+        try {
+            byte[] spilled = Files.readAllBytes(diskFile(key));
+            put(key, spilled);
+            return spilled;
+        } catch (IOException e) {
+            synchronized (this) {
+                Long size = disk.remove(key);
+                if (size != null) {
+                    diskBytes -= size;
+                }
+            }
+            return null;
+        }
+    }
+
+    public void put(String key, byte[] value) {
+        if (value.length > maxMemoryBytes) {
+            return;
+        }
+
+        List<Map.Entry<String, byte[]>> evicted = new ArrayList<>();
+        synchronized (this) {
+            byte[] previous = memory.put(key, value);
+            memoryBytes += value.length - (previous != null ? previous.length : 0);
+
+            Iterator<Map.Entry<String, byte[]>> it = memory.entrySet().iterator();
+            while (memoryBytes > maxMemoryBytes && it.hasNext()) {
+                Map.Entry<String, byte[]> eldest = it.next();
+                it.remove();
+                memoryBytes -= eldest.getValue().length;
+                evicted.add(eldest);
+            }
+        }
+
+        if (diskDir != null) {
+            evicted.forEach(entry -> spill(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    public synchronized int size() {
+        return memory.size() + disk.size();
+    }
+
+    private void spill(String key, byte[] value) {
+        if (value.length > maxDiskBytes) {
+            return;
+        }
+        // Readers may open the file at any time, so it only appears once complete
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(diskDir, key, ".tmp");
+            Files.write(temp, value);
+            Files.move(temp, diskFile(key), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("Could not spill cached report {}: {}", key, e.getMessage());
+            deleteQuietly(temp);
+            return;
+        }
+
+        List<String> dropped = new ArrayList<>();
+        synchronized (this) {
+            Long previous = disk.put(key, (long) value.length);
+            diskBytes += value.length - (previous != null ? previous : 0);
+
+            Iterator<Map.Entry<String, Long>> it = disk.entrySet().iterator();
+            while (diskBytes > maxDiskBytes && it.hasNext()) {
+                Map.Entry<String, Long> eldest = it.next();
+                it.remove();
+                diskBytes -= eldest.getValue();
+                dropped.add(eldest.getKey());
+            }
+        }
+
+        for (String droppedKey : dropped) {
+            try {
+                Files.deleteIfExists(diskFile(droppedKey));
+            } catch (IOException e) {
+                log.warn("Could not delete cached report {}: {}", droppedKey, e.getMessage());
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete temporary report file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private Path diskFile(String key) {
+        return diskDir.resolve(key + ".bin");
+    }
+}
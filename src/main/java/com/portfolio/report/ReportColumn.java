@@ -0,0 +1,18 @@
+package com.portfolio.report;
+
+import java.util.function.Function;
+
+/**
+ * One report column: its header, its relative PDF width and how to read the
+ * cell value from a row.
+ */
+public record ReportColumn<R>(String header, float width, Function<R, String> value) {
+
+    public static <R> ReportColumn<R> of(String header, float width, Function<R, String> value) {
+        return new ReportColumn<>(header, width, value);
+    }
+
+    public static <R> ReportColumn<R> of(String header, Function<R, String> value) {
+        return new ReportColumn<>(header, 1, value);
+    }
+}
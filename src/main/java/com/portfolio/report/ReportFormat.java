@@ -0,0 +1,35 @@
+package com.portfolio.report;
+
+import org.springframework.http.MediaType;
+
+public enum ReportFormat {
+    PDF(MediaType.APPLICATION_PDF_VALUE, "pdf", false),
+    EXCEL("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx", false),
+    CSV("text/csv;charset=UTF-8", "csv", true),
+    NDJSON(MediaType.APPLICATION_NDJSON_VALUE, "ndjson", true);
+
+    private final String contentType;
+    private final String extension;
+    private final boolean compressible;
+
+    ReportFormat(String contentType, String extension, boolean compressible) {
+        this.contentType = contentType;
+        this.extension = extension;
+        this.compressible = compressible;
+    }
+
+    public MediaType getMediaType() {
+        return MediaType.parseMediaType(contentType);
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Plain-text formats worth gzipping on the wire. PDF and XLSX are already compressed.
+     */
+    public boolean isCompressible() {
+        return compressible;
+    }
+}
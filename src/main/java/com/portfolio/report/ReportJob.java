@@ -0,0 +1,91 @@
+package com.portfolio.report;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * In-memory handle for an asynchronous report. Fields are written by the worker
+ * thread and read by polling requests, hence volatile. Downloads hold a lease
+ * on the spooled file, and a job is only purged while no download holds one.
+ */
+@Getter
+public class ReportJob {
+
+    private final UUID id;
+    private final ReportSpec spec;
+    private final LocalDateTime createdAt;
+    private volatile ReportJobStatus status = ReportJobStatus.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime completedAt;
+    private volatile Path file;
+    private volatile long sizeBytes;
+    private volatile String errorMessage;
+    private volatile LocalDateTime lastAccessedAt;
+    private int downloads;
+    private boolean purged;
+
+    public ReportJob(ReportSpec spec) {
+        this.id = UUID.randomUUID();
+        this.spec = spec;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public void markRunning() {
+        this.startedAt = LocalDateTime.now();
+        this.status = ReportJobStatus.RUNNING;
+    }
+
+    public void markCompleted(Path file, long sizeBytes) {
+        this.file = file;
+        this.sizeBytes = sizeBytes;
+        this.completedAt = LocalDateTime.now();
+        this.status = ReportJobStatus.COMPLETED;
+    }
+
+    public void markFailed(String errorMessage) {
+        this.errorMessage = errorMessage;
+        this.completedAt = LocalDateTime.now();
+        this.status = ReportJobStatus.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == ReportJobStatus.COMPLETED || status == ReportJobStatus.FAILED;
+    }
+
+    public void touch() {
+        this.lastAccessedAt = LocalDateTime.now();
+    }
+
+    /**
+     * @return false when the job was purged and its file is gone
+     */
+    public synchronized boolean acquireDownload() {
+        if (purged) {
+            return false;
+        }
+        downloads++;
+        lastAccessedAt = LocalDateTime.now();
+        return true;
+    }
+
+    public synchronized void releaseDownload() {
+        downloads--;
+        lastAccessedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Marks the job purged if it finished and nobody has used it since
+     * {@code cutoff}; a download in progress keeps it alive.
+     */
+    public synchronized boolean tryPurge(LocalDateTime cutoff) {
+        if (!isFinished() || downloads > 0 || completedAt.isAfter(cutoff)
+                || (lastAccessedAt != null && lastAccessedAt.isAfter(cutoff))) {
+            return false;
+        }
+        purged = true;
+        return true;
+    }
+}
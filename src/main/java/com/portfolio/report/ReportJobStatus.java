@@ -0,0 +1,8 @@
+package com.portfolio.report;
+
+public enum ReportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
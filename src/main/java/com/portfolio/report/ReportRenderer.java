@@ -0,0 +1,82 @@
+package com.portfolio.report;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Renders a row stream with the template matching each requested format. The
+ * stream is consumed once and always closed, which releases its cursor; when
+ * several formats are requested, every row goes to all of their writers as it
+ * is read.
+ */
+@Slf4j
+public final class ReportRenderer {
+
+    private ReportRenderer() {
+    }
+
+    public static <R> void render(ReportTemplateSet<R> templates, ReportFormat format, Stream<R> rows,
+            OutputStream out) throws IOException {
+        render(templates, Map.of(format, out), rows);
+    }
+
+    public static <R> void render(ReportTemplateSet<R> templates, Map<ReportFormat, ? extends OutputStream> outs,
+            Stream<R> rows) throws IOException {
+        List<ReportTemplate<R>> formatTemplates = new ArrayList<>(outs.size());
+        List<ReportWriter> writers = new ArrayList<>(outs.size());
+        try (rows) {
+            for (Map.Entry<ReportFormat, ? extends OutputStream> entry : outs.entrySet()) {
+                ReportTemplate<R> template = templates.forFormat(entry.getKey());
+                formatTemplates.add(template);
+                writers.add(open(entry.getKey(), template, entry.getValue()));
+            }
+
+            rows.forEach(row -> {
+                ReportTemplate<R> previous = null;
+                String[] values = null;
+                for (int i = 0; i < writers.size(); i++) {
+                    // Formats sharing a template share the row's values
+                    if (formatTemplates.get(i) != previous) {
+                        previous = formatTemplates.get(i);
+                        values = previous.values(row);
+                    }
+                    writers.get(i).addRow(values);
+                }
+            });
+
+            for (ReportWriter writer : writers) {
+                writer.finish();
+            }
+            log.debug("Wrote {} '{}' ({} rows)", outs.keySet(), formatTemplates.get(0).getTitle(),
+                    writers.get(0).getRowCount());
+        } finally {
+            closeAll(writers);
+        }
+    }
+
+    private static ReportWriter open(ReportFormat format, ReportTemplate<?> template, OutputStream out)
+            throws IOException {
+        return switch (format) {
+            case PDF -> new StreamingPdfWriter(out, template);
+            case EXCEL -> new StreamingExcelWriter(out, template);
+            case CSV -> new StreamingCsvWriter(out, template);
+            case NDJSON -> new StreamingNdjsonWriter(out, template);
+        };
+    }
+
+    private static void closeAll(List<ReportWriter> writers) {
+        for (ReportWriter writer : writers) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                log.warn("Could not close report writer: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.portfolio.report;
+
+import com.portfolio.exception.BadRequestException;
+import com.portfolio.model.AdvisoryStatus;
+import com.portfolio.model.ProjectStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Normalized description of an admin report. Two specs are equal when they
+ * would produce the same document, so the record doubles as a dedup key.
+ */
+public record ReportSpec(
+        ReportType type,
+        ReportFormat format,
+        UUID programmerId,
+        String status,
+        LocalDate startDate,
+        LocalDate endDate) {
+
+    public static ReportSpec of(ReportType type, ReportFormat format, UUID programmerId, String status,
+            LocalDate startDate, LocalDate endDate) {
+        if (type == null || format == null) {
+            throw new BadRequestException("El tipo y formato del reporte son requeridos");
+        }
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new BadRequestException("La fecha de inicio debe ser anterior a la fecha de fin");
+        }
+
+        String normalizedStatus = status != null && !status.isBlank() ? status.trim().toUpperCase() : null;
+        ReportSpec spec = new ReportSpec(type, format, programmerId, normalizedStatus, startDate, endDate);
+        // Fail fast on a status that does not belong to the report type
+        spec.advisoryStatus();
+        spec.projectStatus();
+        return spec;
+    }
+
+    public AdvisoryStatus advisoryStatus() {
+        if (type != ReportType.ADVISORIES || status == null) {
+            return null;
+        }
+        try {
+            return AdvisoryStatus.valueOf(status);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Estado de asesoría inválido: " + status);
+        }
+    }
+
+    public ProjectStatus projectStatus() {
+        if (type != ReportType.PROJECTS || status == null) {
+            return null;
+        }
+        try {
+            return ProjectStatus.valueOf(status);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Estado de proyecto inválido: " + status);
+        }
+    }
+
+    /**
+     * The same report without its format: specs that differ only in format read
+     * the same rows, so this is the key for rendering them from one query.
+     */
+    public ReportSpec dataset() {
+        return new ReportSpec(type, null, programmerId, status, startDate, endDate);
+    }
+
+    public String fileName() {
+        String base = type == ReportType.ADVISORIES ? "asesorias-admin" : "proyectos-admin";
+        return base + "." + format.getExtension();
+    }
+}
@@ -0,0 +1,33 @@
+package com.portfolio.report;
+
+import com.lowagie.text.Element;
+import com.lowagie.text.Font;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.pdf.PdfPCell;
+
+import java.awt.Color;
+
+/**
+ * Shared PDF fonts and cell prototypes. They are never mutated after class
+ * initialization; {@code PdfPTable.addCell} copies the cell it is given, so the
+ * prototypes can be reused by concurrent renders.
+ */
+public final class ReportStyles {
+
+    public static final Font TITLE_FONT = new Font(Font.HELVETICA, 18, Font.BOLD);
+    public static final Font HEADER_FONT = new Font(Font.HELVETICA, 10, Font.BOLD);
+    public static final Color HEADER_BACKGROUND = Color.LIGHT_GRAY;
+    public static final float HEADER_PADDING = 5;
+    public static final float TITLE_SPACING_AFTER = 20;
+    public static final int TITLE_ALIGNMENT = Element.ALIGN_CENTER;
+
+    private ReportStyles() {
+    }
+
+    public static PdfPCell headerCell(String text) {
+        PdfPCell cell = new PdfPCell(new Phrase(text, HEADER_FONT));
+        cell.setBackgroundColor(HEADER_BACKGROUND);
+        cell.setPadding(HEADER_PADDING);
+        return cell;
+    }
+}
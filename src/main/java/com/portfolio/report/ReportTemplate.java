@@ -0,0 +1,72 @@
+package com.portfolio.report;
+
+import com.lowagie.text.Rectangle;
+import com.lowagie.text.pdf.PdfPCell;
+
+import java.util.List;
+
+/**
+ * Immutable layout of one report: title, sheet name, page size and columns.
+ * Header texts, PDF column widths and header cells are computed once when the
+ * template is declared, so rendering only allocates per data row.
+ */
+public final class ReportTemplate<R> {
+
+    private final String title;
+    private final String sheetName;
+    private final Rectangle pageSize;
+    private final List<ReportColumn<R>> columns;
+    private final String[] headers;
+    private final float[] widths;
+    private final PdfPCell[] headerCells;
+
+    public ReportTemplate(String title, String sheetName, Rectangle pageSize, List<ReportColumn<R>> columns) {
+        this.title = title;
+        this.sheetName = sheetName;
+        this.pageSize = pageSize;
+        this.columns = List.copyOf(columns);
+        this.headers = new String[columns.size()];
+        this.widths = new float[columns.size()];
+        this.headerCells = new PdfPCell[columns.size()];
+
+        for (int i = 0; i < columns.size(); i++) {
+            ReportColumn<R> column = columns.get(i);
+            headers[i] = column.header();
+            widths[i] = column.width();
+            headerCells[i] = ReportStyles.headerCell(column.header());
+        }
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getSheetName() {
+        return sheetName;
+    }
+
+    public Rectangle getPageSize() {
+        return pageSize;
+    }
+
+    // Callers must not modify the returned arrays
+    String[] headers() {
+        return headers;
+    }
+
+    float[] widths() {
+        return widths;
+    }
+
+    PdfPCell[] headerCells() {
+        return headerCells;
+    }
+
+    public String[] values(R row) {
+        String[] values = new String[columns.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = columns.get(i).value().apply(row);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,16 @@
+package com.portfolio.report;
+
+/**
+ * The templates one report is rendered with, one per output family: the
+ * printable PDF, the spreadsheet and the machine-readable CSV/NDJSON export.
+ */
+public record ReportTemplateSet<R>(ReportTemplate<R> pdf, ReportTemplate<R> sheet, ReportTemplate<R> data) {
+
+    public ReportTemplate<R> forFormat(ReportFormat format) {
+        return switch (format) {
+            case PDF -> pdf;
+            case EXCEL -> sheet;
+            case CSV, NDJSON -> data;
+        };
+    }
+}
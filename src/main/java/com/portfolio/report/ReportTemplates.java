@@ -0,0 +1,158 @@
+package com.portfolio.report;
+
+import com.lowagie.text.PageSize;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+
+import static com.portfolio.report.ReportColumn.of;
+
+/**
+ * Registry of every report layout. A new report is declared here as a list of
+ * columns and rendered by the generic writers; no per-report generator code.
+ */
+public final class ReportTemplates {
+
+    public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+    // ============ ADVISORY REPORTS ============
+
+    public static final ReportTemplate<AdvisoryReportRow> ADVISORIES_PDF = new ReportTemplate<>(
+            "Reporte de Asesorías", "Asesorías", PageSize.A4, List.of(
+                    of("Solicitante", 3, AdvisoryReportRow::externalName),
+                    of("Fecha", 2, row -> format(row.scheduledAt())),
+                    of("Estado", 2, row -> row.status().name()),
+                    of("Comentario", 3, row -> orDash(row.requestComment()))));
+
+    public static final ReportTemplate<AdvisoryReportRow> ADVISORIES_SHEET = new ReportTemplate<>(
+            "Reporte de Asesorías", "Asesorías", PageSize.A4, List.of(
+                    of("ID", row -> id(row.id())),
+                    of("Solicitante", AdvisoryReportRow::externalName),
+                    of("Email", AdvisoryReportRow::externalEmail),
+                    of("Fecha Programada", row -> format(row.scheduledAt())),
+                    of("Estado", row -> row.status().name()),
+                    of("Comentario", AdvisoryReportRow::requestComment),
+                    of("Respuesta", AdvisoryReportRow::responseMessage)));
+
+    public static final ReportTemplate<AdvisoryReportRow> ADMIN_ADVISORIES_PDF = new ReportTemplate<>(
+            "Reporte Administrativo de Asesorías", "Asesorias Admin", PageSize.A4.rotate(), List.of(
+                    of("Programador", 2, AdvisoryReportRow::programmerName),
+                    of("Solicitante", 3, AdvisoryReportRow::externalName),
+                    of("Email Solicitante", 3, AdvisoryReportRow::externalEmail),
+                    of("Fecha", 2, row -> format(row.scheduledAt())),
+                    of("Estado", 2, row -> row.status().name()),
+                    of("Comentario", 3, row -> orDash(row.requestComment()))));
+
+    public static final ReportTemplate<AdvisoryReportRow> ADMIN_ADVISORIES_SHEET = new ReportTemplate<>(
+            "Reporte Administrativo de Asesorías", "Asesorias Admin", PageSize.A4.rotate(), List.of(
+                    of("ID", row -> id(row.id())),
+                    of("Programador", AdvisoryReportRow::programmerName),
+                    of("Solicitante", AdvisoryReportRow::externalName),
+                    of("Email", AdvisoryReportRow::externalEmail),
+                    of("Fecha", row -> format(row.scheduledAt())),
+                    of("Estado", row -> row.status().name()),
+                    of("Comentario", AdvisoryReportRow::requestComment)));
+
+    // ============ PROJECT REPORTS ============
+
+    public static final ReportTemplate<ProjectReportRow> PROJECTS_PDF = new ReportTemplate<>(
+            "Reporte de Proyectos", "Proyectos", PageSize.A4, List.of(
+                    of("Título", 3, ProjectReportRow::title),
+                    of("Tipo", 2, row -> row.projectType().name()),
+                    of("Estado", 2, row -> row.status().name()),
+                    of("Tecnologías", 3, row -> row.technologiesOr("-"))));
+
+    public static final ReportTemplate<ProjectReportRow> PROJECTS_SHEET = new ReportTemplate<>(
+            "Reporte de Proyectos", "Proyectos", PageSize.A4, List.of(
+                    of("ID", row -> id(row.id())),
+                    of("Título", ProjectReportRow::title),
+                    of("Descripción", ProjectReportRow::description),
+                    of("Tipo", row -> row.projectType().name()),
+                    of("Rol", ProjectReportRow::roleInProject),
+                    of("Tecnologías", row -> row.technologiesOr("")),
+                    of("Estado", row -> row.status().name()),
+                    of("URL Repo", ProjectReportRow::repoUrl),
+                    of("URL Demo", ProjectReportRow::demoUrl)));
+
+    public static final ReportTemplate<ProjectReportRow> ADMIN_PROJECTS_PDF = new ReportTemplate<>(
+            "Reporte Administrativo de Proyectos", "Proyectos Admin", PageSize.A4.rotate(), List.of(
+                    of("Programador", 2, ProjectReportRow::programmerName),
+                    of("Proyecto", 3, ProjectReportRow::title),
+                    of("Tipo", 3, row -> row.projectType().name()),
+                    of("Estado", 2, row -> row.status().name()),
+                    of("Fecha Creacion", 2, row -> format(row.createdAt())),
+                    of("Tecnologias", 3, row -> row.technologiesOr("-"))));
+
+    public static final ReportTemplate<ProjectReportRow> ADMIN_PROJECTS_SHEET = new ReportTemplate<>(
+            "Reporte Administrativo de Proyectos", "Proyectos Admin", PageSize.A4.rotate(), List.of(
+                    of("ID", row -> id(row.id())),
+                    of("Programador", ProjectReportRow::programmerName),
+                    of("Proyecto", ProjectReportRow::title),
+                    of("Tipo", row -> row.projectType().name()),
+                    of("Estado", row -> row.status().name()),
+                    of("Fecha", row -> format(row.createdAt())),
+                    of("Tecnologias", row -> row.technologiesOr(""))));
+
+    // ============ DATA EXPORTS ============
+    // CSV and NDJSON are read by pipelines: stable keys as headers and ISO timestamps
+
+    public static final ReportTemplate<AdvisoryReportRow> ADVISORIES_DATA = new ReportTemplate<>(
+            "advisories", "advisories", PageSize.A4, List.of(
+                    of("id", row -> id(row.id())),
+                    of("programmerName", AdvisoryReportRow::programmerName),
+                    of("externalName", AdvisoryReportRow::externalName),
+                    of("externalEmail", AdvisoryReportRow::externalEmail),
+                    of("scheduledAt", row -> isoFormat(row.scheduledAt())),
+                    of("status", row -> row.status().name()),
+                    of("requestComment", AdvisoryReportRow::requestComment),
+                    of("responseMessage", AdvisoryReportRow::responseMessage)));
+
+    public static final ReportTemplate<ProjectReportRow> PROJECTS_DATA = new ReportTemplate<>(
+            "projects", "projects", PageSize.A4, List.of(
+                    of("id", row -> id(row.id())),
+                    of("programmerName", ProjectReportRow::programmerName),
+                    of("title", ProjectReportRow::title),
+                    of("description", ProjectReportRow::description),
+                    of("projectType", row -> row.projectType().name()),
+                    of("roleInProject", ProjectReportRow::roleInProject),
+                    of("technologies", row -> row.technologiesOr(null)),
+                    of("status", row -> row.status().name()),
+                    of("repoUrl", ProjectReportRow::repoUrl),
+                    of("demoUrl", ProjectReportRow::demoUrl),
+                    of("createdAt", row -> isoFormat(row.createdAt()))));
+
+    // ============ TEMPLATE SETS ============
+
+    public static final ReportTemplateSet<AdvisoryReportRow> ADVISORIES =
+            new ReportTemplateSet<>(ADVISORIES_PDF, ADVISORIES_SHEET, ADVISORIES_DATA);
+
+    public static final ReportTemplateSet<AdvisoryReportRow> ADMIN_ADVISORIES =
+            new ReportTemplateSet<>(ADMIN_ADVISORIES_PDF, ADMIN_ADVISORIES_SHEET, ADVISORIES_DATA);
+
+    public static final ReportTemplateSet<ProjectReportRow> PROJECTS =
+            new ReportTemplateSet<>(PROJECTS_PDF, PROJECTS_SHEET, PROJECTS_DATA);
+
+    public static final ReportTemplateSet<ProjectReportRow> ADMIN_PROJECTS =
+            new ReportTemplateSet<>(ADMIN_PROJECTS_PDF, ADMIN_PROJECTS_SHEET, PROJECTS_DATA);
+
+    private ReportTemplates() {
+    }
+
+    private static String format(LocalDateTime dateTime) {
+        return dateTime.format(DATE_FORMATTER);
+    }
+
+    private static String isoFormat(LocalDateTime dateTime) {
+        return dateTime != null ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime) : null;
+    }
+
+    private static String id(UUID id) {
+        return id.toString();
+    }
+
+    private static String orDash(String value) {
+        return value != null ? value : "-";
+    }
+}
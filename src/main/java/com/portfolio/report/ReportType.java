@@ -0,0 +1,6 @@
+package com.portfolio.report;
+
+public enum ReportType {
+    ADVISORIES,
+    PROJECTS
+}
@@ -0,0 +1,18 @@
+package com.portfolio.report;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Row sink for one report format. Rows are added as they are read; only
+ * {@link #finish} completes the document. {@link #close} releases resources
+ * whether or not the document was finished.
+ */
+public interface ReportWriter extends Closeable {
+
+    void addRow(String... values);
+
+    int getRowCount();
+
+    void finish() throws IOException;
+}
@@ -0,0 +1,98 @@
+package com.portfolio.report;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Single-sheet XLSX writer backed by a windowed {@link SXSSFWorkbook}.
+ * Only the last {@link #WINDOW_SIZE} rows stay in heap; older rows are flushed
+ * to a compressed temp file. Column widths are estimated from the first
+ * {@link #WIDTH_SAMPLE_ROWS} rows instead of {@code autoSizeColumn}, which
+ * needs every row in memory. The workbook goes to {@code out} on
+ * {@link #finish}; the target stream is flushed but left open.
+ */
+public class StreamingExcelWriter implements ReportWriter {
+
+    static final int WINDOW_SIZE = 100;
+    static final int WIDTH_SAMPLE_ROWS = 200;
+
+    private static final int MIN_COLUMN_CHARS = 8;
+    private static final int MAX_COLUMN_CHARS = 60;
+
+    private final OutputStream out;
+    private final SXSSFWorkbook workbook;
+    private final SXSSFSheet sheet;
+    private final int[] sampledWidths;
+    private int rowNum;
+
+    public StreamingExcelWriter(OutputStream out, ReportTemplate<?> template) {
+        this.out = out;
+        String[] columns = template.headers();
+        this.workbook = new SXSSFWorkbook(WINDOW_SIZE);
+        this.workbook.setCompressTempFiles(true);
+        this.sheet = workbook.createSheet(template.getSheetName());
+        this.sampledWidths = new int[columns.length];
+
+        // Styles belong to a workbook, so this is the one style allocated per report
+        CellStyle headerStyle = workbook.createCellStyle();
+        Font headerFont = workbook.createFont();
+        headerFont.setBold(true);
+        headerStyle.setFont(headerFont);
+
+        Row headerRow = sheet.createRow(rowNum++);
+        for (int i = 0; i < columns.length; i++) {
+            Cell cell = headerRow.createCell(i);
+            cell.setCellValue(columns[i]);
+            cell.setCellStyle(headerStyle);
+            sample(i, columns[i]);
+        }
+    }
+
+    @Override
+    public void addRow(String... values) {
+        Row row = sheet.createRow(rowNum);
+        boolean sampling = rowNum <= WIDTH_SAMPLE_ROWS;
+        for (int i = 0; i < values.length; i++) {
+            String value = values[i] != null ? values[i] : "";
+            row.createCell(i).setCellValue(value);
+            if (sampling) {
+                sample(i, value);
+            }
+        }
+        rowNum++;
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowNum - 1;
+    }
+
+    @Override
+    public void finish() throws IOException {
+        for (int i = 0; i < sampledWidths.length; i++) {
+            int chars = Math.max(MIN_COLUMN_CHARS, Math.min(MAX_COLUMN_CHARS, sampledWidths[i] + 2));
+            sheet.setColumnWidth(i, chars * 256);
+        }
+        workbook.write(out);
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        workbook.dispose();
+        workbook.close();
+    }
+
+    private void sample(int column, String value) {
+        if (column < sampledWidths.length && value.length() > sampledWidths[column]) {
+            sampledWidths[column] = value.length();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.portfolio.report;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Newline-delimited JSON writer: one flat object per row, keyed by the
+ * template headers. The target stream is flushed but left open.
+ */
+public class StreamingNdjsonWriter implements ReportWriter {
+
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    private final JsonGenerator generator;
+    private final String[] fields;
+    private int rowCount;
+
+    public StreamingNdjsonWriter(OutputStream out, ReportTemplate<?> template) throws IOException {
+        this.generator = JSON_FACTORY.createGenerator(out);
+        this.generator.setRootValueSeparator(null);
+        this.fields = template.headers();
+    }
+
+    @Override
+    public void addRow(String... values) {
+        try {
+            generator.writeStartObject();
+            for (int i = 0; i < fields.length; i++) {
+                generator.writeStringField(fields[i], values[i]);
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        rowCount++;
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public void finish() throws IOException {
+        generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,83 @@
+package com.portfolio.report;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.pdf.PdfPCell;
+import com.lowagie.text.pdf.PdfPTable;
+import com.lowagie.text.pdf.PdfWriter;
+
+import java.io.OutputStream;
+
+/**
+ * Writes a titled single-table PDF straight to {@code out}. The table is marked
+ * incomplete and added to the document every {@link #CHUNK_ROWS} rows, so
+ * OpenPDF lays out and releases finished pages instead of holding the whole
+ * table. The header row repeats on every page. The target stream is left open.
+ *
+ * <p>Only {@link #finish} completes the document. Closing an unfinished
+ * writer leaves the PDF without its trailer, so a report whose rows failed
+ * midway can never pass for a complete, shorter one.
+ */
+public class StreamingPdfWriter implements ReportWriter {
+
+    static final int CHUNK_ROWS = 200;
+
+    private final Document document;
+    private final PdfWriter writer;
+    private final PdfPTable table;
+    private int pendingRows;
+    private int rowCount;
+
+    public StreamingPdfWriter(OutputStream out, ReportTemplate<?> template) {
+        this.document = new Document(template.getPageSize());
+        this.writer = PdfWriter.getInstance(document, out);
+        this.writer.setCloseStream(false);
+
+        document.open();
+
+        Paragraph title = new Paragraph(template.getTitle(), ReportStyles.TITLE_FONT);
+        title.setAlignment(ReportStyles.TITLE_ALIGNMENT);
+        title.setSpacingAfter(ReportStyles.TITLE_SPACING_AFTER);
+        document.add(title);
+
+        this.table = new PdfPTable(template.widths().length);
+        table.setWidthPercentage(100);
+        table.setWidths(template.widths());
+        table.setHeaderRows(1);
+        table.setComplete(false);
+
+        for (PdfPCell headerCell : template.headerCells()) {
+            table.addCell(headerCell);
+        }
+    }
+
+    @Override
+    public void addRow(String... values) {
+        for (String value : values) {
+            table.addCell(value);
+        }
+        rowCount++;
+        if (++pendingRows >= CHUNK_ROWS) {
+            document.add(table);
+            writer.flush();
+            pendingRows = 0;
+        }
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public void finish() {
+        table.setComplete(true);
+        document.add(table);
+        document.close();
+    }
+
+    @Override
+    public void close() {
+        // An unfinished document stays unterminated; the caller reports the failure
+    }
+}
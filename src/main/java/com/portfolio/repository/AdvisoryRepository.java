@@ -2,15 +2,23 @@ package com.portfolio.repository;
 
 import com.portfolio.model.Advisory;
 import com.portfolio.model.AdvisoryStatus;
+import com.portfolio.report.AdvisoryReportRow;
+import com.portfolio.report.DataVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface AdvisoryRepository extends JpaRepository<Advisory, UUID> {
@@ -25,11 +33,39 @@ public interface AdvisoryRepository extends JpaRepository<Advisory, UUID> {
 
     List<Advisory> findByProgrammerIdAndScheduledAtBetween(UUID programmerId, LocalDateTime start, LocalDateTime end);
 
-    @Query("SELECT a FROM Advisory a WHERE a.programmer.id = :programmerId AND a.scheduledAt = :scheduledAt AND a.status IN ('PENDING', 'APPROVED')")
-    List<Advisory> findConflictingAdvisories(UUID programmerId, LocalDateTime scheduledAt);
+    @Query("SELECT a.scheduledAt FROM Advisory a WHERE a.programmer.id = :programmerId AND a.scheduledAt >= :from AND a.status IN ('PENDING', 'APPROVED')")
+    List<LocalDateTime> findActiveScheduleTimes(UUID programmerId, LocalDateTime from);
 
-    @Query("SELECT a FROM Advisory a WHERE a.status = 'APPROVED' AND a.scheduledAt BETWEEN :start AND :end")
-    List<Advisory> findUpcomingApprovedAdvisories(LocalDateTime start, LocalDateTime end);
+    @Query("SELECT COUNT(a) > 0 FROM Advisory a WHERE a.programmer.id = :programmerId AND a.scheduledAt > :from AND a.scheduledAt < :to AND a.status IN ('PENDING', 'APPROVED')")
+    boolean existsActiveBetween(UUID programmerId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * (id, scheduledAt) of the approved, not yet reminded advisories in
+     * {@code (start, end]}, ordered by (scheduledAt, id) and following the given key.
+     */
+    @Query("SELECT a.id, a.scheduledAt FROM Advisory a " +
+            "WHERE a.status = 'APPROVED' AND a.reminderSentAt IS NULL " +
+            "AND a.scheduledAt > :start AND a.scheduledAt <= :end " +
+            "AND (a.scheduledAt > :afterScheduledAt OR (a.scheduledAt = :afterScheduledAt AND a.id > :afterId)) " +
+            "ORDER BY a.scheduledAt, a.id")
+    List<Object[]> findReminderDuePageAfter(LocalDateTime start, LocalDateTime end,
+            LocalDateTime afterScheduledAt, UUID afterId, Pageable pageable);
+
+    @Query("SELECT a.scheduledAt FROM Advisory a WHERE a.id = :id AND a.status = 'APPROVED' AND a.reminderSentAt IS NULL")
+    Optional<LocalDateTime> findReminderDueScheduledAt(UUID id);
+
+    /**
+     * Claims the given advisories for a reminder in one statement.
+     *
+     * @return the ids that were still approved, upcoming and not yet reminded
+     */
+    @Query(value = "UPDATE advisories SET reminder_sent_at = :sentAt " +
+            "WHERE id IN (:ids) AND status = 'APPROVED' AND reminder_sent_at IS NULL AND scheduled_at > :sentAt " +
+            "RETURNING id", nativeQuery = true)
+    List<UUID> markRemindersSent(List<UUID> ids, LocalDateTime sentAt);
+
+    @Query("SELECT a FROM Advisory a JOIN FETCH a.programmer JOIN FETCH a.external WHERE a.id IN :ids")
+    List<Advisory> findWithUsersByIdIn(List<UUID> ids);
 
     @Query("SELECT a.status, COUNT(a) FROM Advisory a GROUP BY a.status")
     List<Object[]> countByStatus();
@@ -43,11 +79,22 @@ public interface AdvisoryRepository extends JpaRepository<Advisory, UUID> {
     @Query("SELECT a.programmer.id, a.programmer.name, COUNT(a) FROM Advisory a GROUP BY a.programmer.id, a.programmer.name")
     List<Object[]> countByProgrammer();
 
-    @Query("SELECT a FROM Advisory a " +
-            "WHERE (:programmerId IS NULL OR a.programmer.id = :programmerId) " +
-            "AND (:status IS NULL OR a.status = :status) " +
-            "AND (:start IS NULL OR a.scheduledAt >= :start) " +
-            "AND (:end IS NULL OR a.scheduledAt <= :end) " +
+    /**
+     * Streams report rows through a server-side cursor. Must be consumed inside a
+     * read-only transaction and closed by the caller.
+     */
+    @Query("SELECT new com.portfolio.report.AdvisoryReportRow(" +
+            "a.id, p.name, e.name, e.email, a.scheduledAt, a.status, a.requestComment, a.responseMessage) " +
+            "FROM Advisory a JOIN a.programmer p JOIN a.external e " +
+            "WHERE p.id = COALESCE(:programmerId, p.id) " +
+            "AND a.status = COALESCE(:status, a.status) " +
+            "AND a.scheduledAt >= COALESCE(:start, a.scheduledAt) " +
+            "AND a.scheduledAt <= COALESCE(:end, a.scheduledAt) " +
             "ORDER BY a.scheduledAt DESC")
-    List<Advisory> findByFilters(UUID programmerId, AdvisoryStatus status, LocalDateTime start, LocalDateTime end);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<AdvisoryReportRow> streamReportRows(UUID programmerId, AdvisoryStatus status,
+            LocalDateTime start, LocalDateTime end);
+
+    @Query("SELECT new com.portfolio.report.DataVersion(MAX(a.updatedAt), COUNT(a)) FROM Advisory a")
+    DataVersion findDataVersion();
 }
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.time.DayOfWeek;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,6 +14,8 @@ public interface AvailabilityRepository extends JpaRepository<Availability, UUID
 
     List<Availability> findByUserIdAndIsActiveTrue(UUID userId);
 
+    List<Availability> findByUserIdInAndIsActiveTrue(Collection<UUID> userIds);
+
     List<Availability> findByUserIdAndDayOfWeekAndIsActiveTrue(UUID userId, DayOfWeek dayOfWeek);
 
     void deleteByUserIdAndId(UUID userId, UUID id);
@@ -0,0 +1,76 @@
+package com.portfolio.repository;
+
+import com.portfolio.model.DashboardRollup;
+import com.portfolio.model.DashboardRollupId;
+import com.portfolio.model.RollupMetric;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads take an optional programmer id: null aggregates over every programmer.
+ */
+@Repository
+public interface DashboardRollupRepository extends JpaRepository<DashboardRollup, DashboardRollupId> {
+
+    @Modifying
+    @Query(value = "INSERT INTO dashboard_rollup (metric, programmer_id, dimension, activity_date, total) " +
+            "VALUES (:metric, :programmerId, :dimension, :activityDate, :delta) " +
+            "ON CONFLICT (metric, programmer_id, dimension, activity_date) " +
+            "DO UPDATE SET total = dashboard_rollup.total + EXCLUDED.total", nativeQuery = true)
+    void increment(String metric, UUID programmerId, String dimension, LocalDate activityDate, long delta);
+
+    @Query("SELECT r.dimension, SUM(r.total) FROM DashboardRollup r " +
+            "WHERE r.metric = :metric AND r.programmerId = COALESCE(:programmerId, r.programmerId) " +
+            "GROUP BY r.dimension HAVING SUM(r.total) > 0 " +
+            "ORDER BY SUM(r.total) DESC, r.dimension")
+    List<Object[]> sumByDimension(RollupMetric metric, UUID programmerId, Pageable pageable);
+
+    @Query("SELECT r.activityDate, SUM(r.total) FROM DashboardRollup r " +
+            "WHERE r.metric = :metric AND r.activityDate >= :since " +
+            "GROUP BY r.activityDate HAVING SUM(r.total) > 0 ORDER BY r.activityDate")
+    List<Object[]> sumByDateSince(RollupMetric metric, LocalDate since);
+
+    @Query("SELECT r.programmerId, u.name, SUM(r.total) FROM DashboardRollup r JOIN User u ON u.id = r.programmerId " +
+            "WHERE r.metric = :metric GROUP BY r.programmerId, u.name HAVING SUM(r.total) > 0")
+    List<Object[]> sumByProgrammer(RollupMetric metric);
+
+    @Query("SELECT COALESCE(SUM(r.total), 0) FROM DashboardRollup r " +
+            "WHERE r.metric = :metric AND r.programmerId = COALESCE(:programmerId, r.programmerId)")
+    long sum(RollupMetric metric, UUID programmerId);
+
+    // ============ RECONCILIATION ============
+
+    @Query(value = "SELECT COUNT(*) FROM dashboard_rollup_expected e " +
+            "FULL JOIN (SELECT * FROM dashboard_rollup WHERE total <> 0) r " +
+            "USING (metric, programmer_id, dimension, activity_date) " +
+            "WHERE e.total IS DISTINCT FROM r.total", nativeQuery = true)
+    long countDrift();
+
+    /**
+     * Blocks concurrent increments, not readers, until the transaction ends.
+     */
+    @Modifying
+    @Query(value = "LOCK TABLE dashboard_rollup IN SHARE ROW EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRebuild();
+
+    @Modifying
+    @Query(value = "DELETE FROM dashboard_rollup", nativeQuery = true)
+    void deleteAllRows();
+
+    @Modifying
+    @Query(value = "INSERT INTO dashboard_rollup (metric, programmer_id, dimension, activity_date, total) " +
+            "SELECT metric, programmer_id, dimension, activity_date, total FROM dashboard_rollup_expected",
+            nativeQuery = true)
+    int insertExpected();
+
+    @Modifying
+    @Query(value = "DELETE FROM dashboard_rollup WHERE total = 0", nativeQuery = true)
+    int deleteEmpty();
+}
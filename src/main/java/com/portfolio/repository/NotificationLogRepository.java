@@ -3,11 +3,18 @@ package com.portfolio.repository;
 import com.portfolio.model.NotificationLog;
 import com.portfolio.model.NotificationStatus;
 import com.portfolio.model.NotificationType;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -23,4 +30,21 @@ public interface NotificationLogRepository extends JpaRepository<NotificationLog
     long countByType(NotificationType type);
 
     long countByStatus(NotificationStatus status);
+
+    // Rows locked by another dispatcher are skipped rather than waited on
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT n FROM NotificationLog n WHERE n.type = :type AND n.status = 'PENDING' " +
+            "AND n.nextAttemptAt <= :now ORDER BY n.nextAttemptAt")
+    List<NotificationLog> findDueForUpdate(NotificationType type, LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE NotificationLog n SET n.status = 'SENT', n.sentAt = :sentAt, n.nextAttemptAt = null " +
+            "WHERE n.id IN :ids")
+    int markSent(List<UUID> ids, LocalDateTime sentAt);
+
+    @Modifying
+    @Query("UPDATE NotificationLog n SET n.status = :status, n.errorMessage = :errorMessage, " +
+            "n.nextAttemptAt = :nextAttemptAt WHERE n.id = :id")
+    int markAttemptFailed(UUID id, NotificationStatus status, String errorMessage, LocalDateTime nextAttemptAt);
 }
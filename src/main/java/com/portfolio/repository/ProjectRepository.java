@@ -3,14 +3,23 @@ package com.portfolio.repository;
 import com.portfolio.model.Project;
 import com.portfolio.model.ProjectStatus;
 import com.portfolio.model.ProjectType;
+import com.portfolio.report.DataVersion;
+import com.portfolio.report.ProjectReportRow;
+import com.portfolio.search.ProjectFacts;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, UUID> {
@@ -28,15 +37,37 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
 
     long countByUserId(UUID userId);
 
+    @Query("SELECT p.user.id, COUNT(p) FROM Project p WHERE p.user.id IN :userIds GROUP BY p.user.id")
+    List<Object[]> countByUserIds(Collection<UUID> userIds);
+
     @Query("SELECT p.user.id, p.user.name, COUNT(p) FROM Project p GROUP BY p.user.id, p.user.name")
     List<Object[]> countByProgrammer();
 
-        @Query("SELECT p FROM Project p " +
-            "WHERE (:userId IS NULL OR p.user.id = :userId) " +
-            "AND (:status IS NULL OR p.status = :status) " +
-            "AND (:start IS NULL OR p.createdAt >= :start) " +
-            "AND (:end IS NULL OR p.createdAt <= :end) " +
+    /**
+     * Streams report rows through a server-side cursor. Must be consumed inside a
+     * read-only transaction and closed by the caller.
+     */
+    @Query("SELECT new com.portfolio.report.ProjectReportRow(" +
+            "p.id, u.name, p.title, p.description, p.projectType, p.roleInProject, p.technologies, " +
+            "p.status, p.repoUrl, p.demoUrl, p.createdAt) " +
+            "FROM Project p JOIN p.user u " +
+            "WHERE u.id = COALESCE(:userId, u.id) " +
+            "AND p.status = COALESCE(:status, p.status) " +
+            "AND p.createdAt >= COALESCE(:start, p.createdAt) " +
+            "AND p.createdAt <= COALESCE(:end, p.createdAt) " +
             "ORDER BY p.createdAt DESC")
-        List<Project> findByFilters(UUID userId, ProjectStatus status, java.time.LocalDateTime start,
-            java.time.LocalDateTime end);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<ProjectReportRow> streamReportRows(UUID userId, ProjectStatus status,
+            LocalDateTime start, LocalDateTime end);
+
+    @Query("SELECT new com.portfolio.report.DataVersion(MAX(p.updatedAt), COUNT(p)) FROM Project p")
+    DataVersion findDataVersion();
+
+    @Query("SELECT new com.portfolio.search.ProjectFacts(u.id, p.technologies, p.projectType, p.status) " +
+            "FROM Project p JOIN p.user u WHERE u.role = com.portfolio.model.Role.PROGRAMMER AND u.isActive = true")
+    List<ProjectFacts> findProgrammerProjectFacts();
+
+    @Query("SELECT new com.portfolio.search.ProjectFacts(p.user.id, p.technologies, p.projectType, p.status) " +
+            "FROM Project p WHERE p.user.id = :userId")
+    List<ProjectFacts> findProjectFactsByUserId(UUID userId);
 }
@@ -2,9 +2,11 @@ package com.portfolio.repository;
 
 import com.portfolio.model.Role;
 import com.portfolio.model.User;
+import com.portfolio.report.DataVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -27,4 +29,7 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     List<User> findByRoleAndIsActiveTrue(Role role);
 
     List<User> findByIsActiveTrue();
+
+    @Query("SELECT new com.portfolio.report.DataVersion(MAX(u.updatedAt), COUNT(u)) FROM User u")
+    DataVersion findDataVersion();
 }
@@ -1,55 +1,289 @@
 package com.portfolio.scheduler;
 
-import com.portfolio.model.Advisory;
+import com.portfolio.dto.ReminderRunResponse;
+import com.portfolio.dto.ReminderStatusResponse;
+import com.portfolio.event.ScheduleChangedEvent;
 import com.portfolio.repository.AdvisoryRepository;
-import com.portfolio.service.NotificationService;
-import lombok.RequiredArgsConstructor;
+import com.portfolio.service.AdvisoryService;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * Sends each approved advisory's reminder a fixed lead time before it starts.
+ * Reminders due within the horizon sit in a hierarchical timing wheel that a
+ * one-tick timer advances; due ones go to workers in batches. The wheel is
+ * filled from the database at startup and on every resync, and kept current
+ * between resyncs by the advisory's own status changes. Advisories are marked
+ * as reminded in the same transaction that queues the reminder, so restarts
+ * and overlapping schedulers never remind twice.
+ *
+ * <p>Only the node holding the {@value #LEASE} lease keeps the wheel; it
+ * reloads it when it takes the lease over and drops it when it loses it.
+ * Approvals on other nodes reach it on the next resync, except reminders that
+ * are already due, which those nodes send right away.
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class AdvisoryReminderScheduler {
 
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+    private static final int WHEEL_SIZE = 60;
+    static final String LEASE = "advisory-reminders";
+
     private final AdvisoryRepository advisoryRepository;
-    private final NotificationService notificationService;
+    private final AdvisoryService advisoryService;
+    private final ClusterLeases leases;
+    private final Duration leadTime;
+    private final Duration horizon;
+    private final long tickMs;
+    private final int pageSize;
+    private final TimingWheel<UUID, UUID> wheel;
+    private final ThreadPoolExecutor coordinator;
+    private final ThreadPoolExecutor workers;
+    private final LongAdder sentReminders = new LongAdder();
+    private final LongAdder skippedReminders = new LongAdder();
+    private final LongAdder failedReminders = new LongAdder();
+
+    private volatile ReminderRun lastRun;
+    private volatile boolean leader;
+
+    public AdvisoryReminderScheduler(
+            AdvisoryRepository advisoryRepository,
+            AdvisoryService advisoryService,
+            ClusterLeases leases,
+            @Value("${app.reminders.lead-time:24h}") Duration leadTime,
+            @Value("${app.reminders.horizon:6h}") Duration horizon,
+            @Value("${app.reminders.tick-ms:1000}") long tickMs,
+            @Value("${app.reminders.page-size:200}") int pageSize,
+            @Value("${app.reminders.workers:4}") int workerCount) {
+        this.advisoryRepository = advisoryRepository;
+        this.advisoryService = advisoryService;
+        this.leases = leases;
+        this.leadTime = leadTime;
+        this.horizon = horizon;
+        this.tickMs = tickMs;
+        this.pageSize = pageSize;
+        this.wheel = new TimingWheel<>(tickMs, WHEEL_SIZE, System.currentTimeMillis());
+        this.coordinator = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1), new CustomizableThreadFactory("reminder-load-"));
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workerCount * 2), new CustomizableThreadFactory("reminder-"));
+    }
 
     /**
-     * Runs every day at 10:00 AM to send reminders for tomorrow's advisories
+     * Reloads the reminders due within the horizon. Picks up advisories
+     * approved by other instances and those whose reminder failed.
      */
-    @Scheduled(cron = "0 0 10 * * *")
-    public void sendDailyReminders() {
-        log.info("Running daily advisory reminder job");
+    @Scheduled(fixedDelayString = "${app.reminders.resync-interval-ms:300000}",
+            initialDelayString = "${app.reminders.resync-interval-ms:300000}")
+    public synchronized void resync() {
+        if (!leader) {
+            return;
+        }
+        if (lastRun != null && !lastRun.isFinished()) {
+            log.warn("Reminder load {} is still in progress, skipping this resync", lastRun.getId());
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        ReminderRun run = new ReminderRun(now, now.plus(leadTime).plus(horizon));
+        try {
+            coordinator.execute(() -> load(run));
+            lastRun = run;
+        } catch (RejectedExecutionException e) {
+            log.warn("Reminder loader is shutting down, skipping this resync");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.reminders.tick-ms:1000}")
+    public void tick() {
+        boolean held = leases.isHeld(LEASE);
+        if (held != leader) {
+            leader = held;
+            wheel.clear();
+            if (held) {
+                log.info("Took over advisory reminders, loading them from the database");
+                resync();
+            } else {
+                log.warn("Lost the advisory reminder lease, dropped the scheduled reminders");
+            }
+        }
+        if (!held) {
+            return;
+        }
 
-        LocalDateTime startOfTomorrow = LocalDateTime.now().plusDays(1).withHour(0).withMinute(0).withSecond(0);
-        LocalDateTime endOfTomorrow = startOfTomorrow.plusDays(1);
+        List<UUID> due = wheel.advance(System.currentTimeMillis());
+        if (!due.isEmpty()) {
+            dispatch(due);
+        }
+    }
 
-        List<Advisory> tomorrowsAdvisories = advisoryRepository
-                .findUpcomingApprovedAdvisories(startOfTomorrow, endOfTomorrow);
+    /**
+     * Schedules, moves or drops the advisory's reminder after it is approved,
+     * cancelled or otherwise changed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        Optional<LocalDateTime> scheduledAt = advisoryRepository.findReminderDueScheduledAt(event.advisoryId());
+        LocalDateTime now = LocalDateTime.now();
+        if (!leader) {
+            // The leader schedules it on its next resync; a reminder already due is not kept waiting
+            if (scheduledAt.isPresent() && scheduledAt.get().isAfter(now)
+                    && !scheduledAt.get().minus(leadTime).isAfter(now)) {
+                dispatch(List.of(event.advisoryId()));
+            }
+            return;
+        }
+        if (scheduledAt.isPresent() && scheduledAt.get().isAfter(now)
+                && scheduledAt.get().minus(leadTime).isBefore(now.plus(horizon))) {
+            schedule(event.advisoryId(), scheduledAt.get());
+        } else {
+            // Beyond the horizon the next resync schedules it
+            wheel.cancel(event.advisoryId());
+        }
+    }
 
-        log.info("Found {} advisories scheduled for tomorrow", tomorrowsAdvisories.size());
+    public ReminderStatusResponse getStatus() {
+        ReminderRun run = lastRun;
+        return ReminderStatusResponse.builder()
+                .node(leases.getOwner())
+                .leader(leader)
+                .leadTime(leadTime)
+                .scheduledReminders(wheel.size())
+                .sentReminders(sentReminders.sum())
+                .skippedReminders(skippedReminders.sum())
+                .failedReminders(failedReminders.sum())
+                .lastRun(run != null ? mapToResponse(run) : null)
+                .build();
+    }
 
-        for (Advisory advisory : tomorrowsAdvisories) {
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    private void load(ReminderRun run) {
+        log.info("Loading advisory reminders {} for {} to {}", run.getId(), run.getWindowStart(), run.getWindowEnd());
+        try {
+            LocalDateTime afterScheduledAt = run.getWindowStart();
+            UUID afterId = MIN_UUID;
+            List<Object[]> page;
+            do {
+                page = advisoryRepository.findReminderDuePageAfter(run.getWindowStart(), run.getWindowEnd(),
+                        afterScheduledAt, afterId, PageRequest.of(0, pageSize));
+                for (Object[] row : page) {
+                    afterId = (UUID) row[0];
+                    afterScheduledAt = (LocalDateTime) row[1];
+                    schedule(afterId, afterScheduledAt);
+                }
+                if (!page.isEmpty()) {
+                    run.pageFetched(page.size());
+                }
+            } while (page.size() == pageSize && leader);
+
+            if (leader) {
+                run.markCompleted();
+            } else {
+                run.markFailed("Lost the scheduler lease");
+            }
+        } catch (RuntimeException e) {
+            log.error("Reminder load {} failed: {}", run.getId(), e.getMessage());
+            run.markFailed(e.getMessage());
+        }
+
+        log.info("Completed advisory reminder load {} in {} ms: {} pages, {} advisories, {} scheduled",
+                run.getId(), durationMs(run), run.getPages().get(), run.getAdvisories().get(), wheel.size());
+    }
+
+    private void schedule(UUID advisoryId, LocalDateTime scheduledAt) {
+        // Reminders already due (downtime, late approval) go out on the next tick
+        long remindAt = Math.max(toEpochMilli(scheduledAt.minus(leadTime)), System.currentTimeMillis() + tickMs);
+        if (!wheel.schedule(advisoryId, remindAt, advisoryId)) {
+            dispatch(List.of(advisoryId));
+        }
+    }
+
+    private void dispatch(List<UUID> advisoryIds) {
+        for (int from = 0; from < advisoryIds.size(); from += pageSize) {
+            List<UUID> batch = List.copyOf(advisoryIds.subList(from, Math.min(from + pageSize, advisoryIds.size())));
             try {
-                // Send reminder to programmer
-                notificationService.sendAdvisoryReminderNotification(
-                        advisory.getProgrammer(), advisory, "programmer");
+                workers.execute(() -> remind(batch));
+            } catch (RejectedExecutionException e) {
+                // Workers are saturated, retry the rest on the next tick
+                long retryAt = System.currentTimeMillis() + tickMs;
+                advisoryIds.subList(from, advisoryIds.size()).forEach(id -> wheel.schedule(id, retryAt, id));
+                return;
+            }
+        }
+    }
 
-                // Send reminder to external user
-                notificationService.sendAdvisoryReminderNotification(
-                        advisory.getExternal(), advisory, "external");
+    private void remind(List<UUID> batch) {
+        try {
+            int sent = advisoryService.sendReminders(batch);
+            sentReminders.add(sent);
+            skippedReminders.add(batch.size() - sent);
+            return;
+        } catch (RuntimeException e) {
+            log.warn("Failed to queue reminders for a batch of {} advisories, retrying one by one: {}",
+                    batch.size(), e.getMessage());
+        }
 
-                log.info("Sent reminders for advisory: {}", advisory.getId());
-            } catch (Exception e) {
-                log.error("Failed to send reminder for advisory {}: {}", advisory.getId(), e.getMessage());
+        // Isolate the advisory that broke the batch; it is retried by the next resync
+        for (UUID advisoryId : batch) {
+            try {
+                int sent = advisoryService.sendReminders(List.of(advisoryId));
+                sentReminders.add(sent);
+                skippedReminders.add(1 - sent);
+            } catch (RuntimeException e) {
+                log.error("Failed to send reminder for advisory {}: {}", advisoryId, e.getMessage());
+                failedReminders.increment();
             }
         }
+    }
+
+    private ReminderRunResponse mapToResponse(ReminderRun run) {
+        return ReminderRunResponse.builder()
+                .id(run.getId())
+                .status(run.getStatus())
+                .windowStart(run.getWindowStart())
+                .windowEnd(run.getWindowEnd())
+                .startedAt(run.getStartedAt())
+                .completedAt(run.getCompletedAt())
+                .durationMs(durationMs(run))
+                .pages(run.getPages().get())
+                .advisories(run.getAdvisories().get())
+                .errorMessage(run.getErrorMessage())
+                .build();
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
 
-        log.info("Completed daily advisory reminder job");
+    private static long durationMs(ReminderRun run) {
+        LocalDateTime end = run.getCompletedAt() != null ? run.getCompletedAt() : LocalDateTime.now();
+        return Duration.between(run.getStartedAt(), end).toMillis();
     }
 }
@@ -0,0 +1,139 @@
+package com.portfolio.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Named leases shared by all instances through {@code scheduler_leases}, so
+ * singleton jobs run on one node at a time. A job opts in by asking
+ * {@link #isHeld}; from then on every node renews the lease if it owns it or
+ * takes it over once it has expired by the database clock. Locally a lease
+ * counts as held only until one renew interval before it could expire, so a
+ * node that cannot reach the database stops before another one takes over.
+ * Acquisitions commit in their own transaction, so a job that asks from inside
+ * a transaction that later rolls back does not undo them.
+ */
+@Component
+@Slf4j
+public class ClusterLeases {
+
+    private static final String ACQUIRE_SQL = "INSERT INTO scheduler_leases (name, owner, acquired_at, expires_at) "
+            + "VALUES (?, ?, LOCALTIMESTAMP, LOCALTIMESTAMP + ? * INTERVAL '1 millisecond') "
+            + "ON CONFLICT (name) DO UPDATE SET owner = EXCLUDED.owner, "
+            + "acquired_at = CASE WHEN scheduler_leases.owner = EXCLUDED.owner "
+            + "THEN scheduler_leases.acquired_at ELSE EXCLUDED.acquired_at END, "
+            + "expires_at = EXCLUDED.expires_at "
+            + "WHERE scheduler_leases.owner = EXCLUDED.owner OR scheduler_leases.expires_at < LOCALTIMESTAMP";
+
+    private static final String RELEASE_SQL = "DELETE FROM scheduler_leases WHERE owner = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate ownTransaction;
+    private final String owner;
+    private final long ttlMs;
+    private final long validNanos;
+    private final Set<String> names = ConcurrentHashMap.newKeySet();
+    private final Map<String, Long> heldUntil = new ConcurrentHashMap<>();
+    private volatile boolean released;
+
+    public ClusterLeases(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.cluster.node-id:}") String nodeId,
+            @Value("${app.cluster.lease-ttl:30s}") Duration ttl,
+            @Value("${app.cluster.lease-renew-interval-ms:10000}") long renewIntervalMs) {
+        if (ttl.toMillis() <= 2 * renewIntervalMs) {
+            throw new IllegalArgumentException("app.cluster.lease-ttl must be more than twice the renew interval");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.ownTransaction = new TransactionTemplate(transactionManager);
+        this.ownTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.owner = nodeId.isBlank() ? defaultNodeId() : nodeId;
+        this.ttlMs = ttl.toMillis();
+        this.validNanos = Duration.ofMillis(ttl.toMillis() - renewIntervalMs).toNanos();
+    }
+
+    public boolean isHeld(String name) {
+        if (names.add(name)) {
+            // First use on this node: try right away instead of waiting for the next renewal
+            acquire(name);
+        }
+        Long until = heldUntil.get(name);
+        return until != null && until - System.nanoTime() > 0;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    @Scheduled(fixedDelayString = "${app.cluster.lease-renew-interval-ms:10000}")
+    public void renew() {
+        names.forEach(this::acquire);
+    }
+
+    @PreDestroy
+    public void release() {
+        // A renewal still scheduled or an isHeld call after shutdown must not take them back
+        released = true;
+        names.clear();
+        if (heldUntil.isEmpty()) {
+            return;
+        }
+        // Let another node take over without waiting for the leases to expire
+        heldUntil.clear();
+        try {
+            jdbcTemplate.update(RELEASE_SQL, owner);
+        } catch (DataAccessException e) {
+            log.warn("Failed to release scheduler leases of {}: {}", owner, e.getMessage());
+        }
+    }
+
+    private void acquire(String name) {
+        if (released) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = ownTransaction.execute(status -> jdbcTemplate.update(ACQUIRE_SQL, name, owner, ttlMs)) == 1;
+        } catch (DataAccessException e) {
+            // Keep what we have; it lapses locally before the database lets anyone else in
+            log.warn("Failed to renew scheduler lease {}: {}", name, e.getMessage());
+            return;
+        }
+
+        if (acquired) {
+            if (heldUntil.put(name, startedAt + validNanos) == null) {
+                log.info("Acquired scheduler lease {} as {}", name, owner);
+            }
+        } else if (heldUntil.remove(name) != null) {
+            log.warn("Lost scheduler lease {} held by {}", name, owner);
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
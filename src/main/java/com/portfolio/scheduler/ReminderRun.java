@@ -0,0 +1,53 @@
+package com.portfolio.scheduler;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Progress of one reminder load, which walks the advisories due for a
+ * reminder in its window and schedules them. Counters are bumped by the
+ * loading thread and read by admin requests while the run is in flight.
+ */
+@Getter
+public class ReminderRun {
+
+    private final UUID id;
+    private final LocalDateTime windowStart;
+    private final LocalDateTime windowEnd;
+    private final LocalDateTime startedAt;
+    private final AtomicInteger pages = new AtomicInteger();
+    private final AtomicInteger advisories = new AtomicInteger();
+    private volatile ReminderRunStatus status = ReminderRunStatus.RUNNING;
+    private volatile LocalDateTime completedAt;
+    private volatile String errorMessage;
+
+    public ReminderRun(LocalDateTime windowStart, LocalDateTime windowEnd) {
+        this.id = UUID.randomUUID();
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    public void pageFetched(int size) {
+        pages.incrementAndGet();
+        advisories.addAndGet(size);
+    }
+
+    public void markCompleted() {
+        this.completedAt = LocalDateTime.now();
+        this.status = ReminderRunStatus.COMPLETED;
+    }
+
+    public void markFailed(String errorMessage) {
+        this.errorMessage = errorMessage;
+        this.completedAt = LocalDateTime.now();
+        this.status = ReminderRunStatus.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status != ReminderRunStatus.RUNNING;
+    }
+}
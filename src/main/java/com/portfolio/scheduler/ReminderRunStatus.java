@@ -0,0 +1,7 @@
+package com.portfolio.scheduler;
+
+public enum ReminderRunStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,170 @@
+package com.portfolio.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel keyed by {@code K}. Level 0 has one bucket per
+ * tick; each further level has buckets {@code wheelSize} times wider, and
+ * levels are added as far-off deadlines need them. Scheduling and cancelling
+ * are O(1); {@link #advance} visits each elapsed tick once and moves the
+ * entries of a coarse bucket down a level when its time span begins, so every
+ * entry is touched at most once per level. Deadlines fire with tick precision.
+ *
+ * <p>Not bound to a clock: callers pass epoch millis and drive
+ * {@link #advance} themselves. All methods are synchronized.
+ */
+public final class TimingWheel<K, V> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final List<List<Map<K, Entry<K, V>>>> levels = new ArrayList<>();
+    private final Map<K, Entry<K, V>> entries = new HashMap<>();
+    private long currentTick;
+
+    public TimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMs must be positive and wheelSize at least 2");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.currentTick = startMs / tickMs;
+    }
+
+    /**
+     * Schedules {@code value} under {@code key}, replacing any entry already
+     * scheduled for it.
+     *
+     * @return false when the deadline is already due, in which case nothing is
+     *         scheduled and the caller should act on it immediately
+     */
+    public synchronized boolean schedule(K key, long deadlineMs, V value) {
+        cancel(key);
+        Entry<K, V> entry = new Entry<>(key, deadlineMs / tickMs, value);
+        if (!place(entry)) {
+            return false;
+        }
+        entries.put(key, entry);
+        return true;
+    }
+
+    public synchronized boolean cancel(K key) {
+        Entry<K, V> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        levels.get(entry.level).get(entry.bucket).remove(key);
+        return true;
+    }
+
+    public synchronized boolean contains(K key) {
+        return entries.containsKey(key);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        levels.clear();
+    }
+
+    /**
+     * Moves the wheel to {@code nowMs} and returns the values whose deadline
+     * has been reached, in deadline order per tick.
+     */
+    public synchronized List<V> advance(long nowMs) {
+        long targetTick = nowMs / tickMs;
+        List<V> expired = new ArrayList<>();
+        if (entries.isEmpty()) {
+            currentTick = Math.max(currentTick, targetTick);
+            return expired;
+        }
+
+        while (currentTick < targetTick && !entries.isEmpty()) {
+            currentTick++;
+            // Coarse buckets whose span starts now are redistributed before level 0 fires
+            long span = 1;
+            for (int level = 1; level < levels.size(); level++) {
+                span *= wheelSize;
+                if (currentTick % span == 0) {
+                    cascade(level, (int) ((currentTick / span) % wheelSize), expired);
+                }
+            }
+            cascade(0, (int) (currentTick % wheelSize), expired);
+        }
+        currentTick = Math.max(currentTick, targetTick);
+        return expired;
+    }
+
+    private void cascade(int level, int bucketIndex, List<V> expired) {
+        Map<K, Entry<K, V>> bucket = levels.get(level).get(bucketIndex);
+        if (bucket == null || bucket.isEmpty()) {
+            return;
+        }
+        List<Entry<K, V>> moving = new ArrayList<>(bucket.values());
+        bucket.clear();
+        for (Entry<K, V> entry : moving) {
+            if (!place(entry)) {
+                entries.remove(entry.key);
+                expired.add(entry.value);
+            }
+        }
+    }
+
+    /**
+     * Puts the entry in the finest level whose wheel still reaches its
+     * deadline, or returns false when the deadline is due.
+     */
+    private boolean place(Entry<K, V> entry) {
+        if (entry.deadlineTick <= currentTick) {
+            return false;
+        }
+
+        long span = 1;
+        int level = 0;
+        while (entry.deadlineTick / span - currentTick / span >= wheelSize) {
+            span *= wheelSize;
+            level++;
+        }
+
+        List<Map<K, Entry<K, V>>> buckets = level(level);
+        int index = (int) ((entry.deadlineTick / span) % wheelSize);
+        Map<K, Entry<K, V>> bucket = buckets.get(index);
+        if (bucket == null) {
+            bucket = new LinkedHashMap<>();
+            buckets.set(index, bucket);
+        }
+        bucket.put(entry.key, entry);
+        entry.level = level;
+        entry.bucket = index;
+        return true;
+    }
+
+    private List<Map<K, Entry<K, V>>> level(int level) {
+        while (levels.size() <= level) {
+            levels.add(new ArrayList<>(Collections.nCopies(wheelSize, null)));
+        }
+        return levels.get(level);
+    }
+
+    private static final class Entry<K, V> {
+
+        private final K key;
+        private final long deadlineTick;
+        private final V value;
+        private int level;
+        private int bucket;
+
+        private Entry(K key, long deadlineTick, V value) {
+            this.key = key;
+            this.deadlineTick = deadlineTick;
+            this.value = value;
+        }
+    }
+}
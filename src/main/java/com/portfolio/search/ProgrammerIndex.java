@@ -0,0 +1,248 @@
+package com.portfolio.search;
+
+import com.portfolio.model.ProjectStatus;
+import com.portfolio.model.ProjectType;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over active programmers. Each programmer gets a
+ * dense int doc id, and every normalized technology tag, project type and
+ * project status maps to a {@link BitSet} posting list of doc ids, so filters
+ * are word-wide AND/OR operations. Free text is checked only against the
+ * documents left after the bitmap filters.
+ *
+ * <p>Doc ids are never reused for another programmer; a removed programmer
+ * keeps its id and simply drops out of every posting list.
+ */
+public class ProgrammerIndex {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<UUID, Integer> docIds = new HashMap<>();
+    private final List<Doc> docs = new ArrayList<>();
+    private final BitSet live = new BitSet();
+    private final Map<String, BitSet> technologies = new HashMap<>();
+    private final Map<String, String> technologyLabels = new HashMap<>();
+    private final Map<ProjectType, BitSet> projectTypes = new EnumMap<>(ProjectType.class);
+    private final Map<ProjectStatus, BitSet> projectStatuses = new EnumMap<>(ProjectStatus.class);
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            docIds.clear();
+            docs.clear();
+            live.clear();
+            technologies.clear();
+            technologyLabels.clear();
+            projectTypes.clear();
+            projectStatuses.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds or replaces a programmer with the given projects.
+     */
+    public void put(UUID programmerId, String name, String bio, List<ProjectFacts> projects) {
+        Map<String, String> tags = new HashMap<>();
+        Set<ProjectType> types = EnumSet.noneOf(ProjectType.class);
+        Set<ProjectStatus> statuses = EnumSet.noneOf(ProjectStatus.class);
+        for (ProjectFacts project : projects) {
+            if (project.technologies() != null) {
+                for (String technology : project.technologies()) {
+                    String tag = normalize(technology);
+                    if (!tag.isEmpty()) {
+                        tags.putIfAbsent(tag, technology.trim());
+                    }
+                }
+            }
+            types.add(project.projectType());
+            statuses.add(project.status());
+        }
+
+        Doc doc = new Doc(programmerId, name != null ? name : "",
+                normalize((name != null ? name : "") + " " + (bio != null ? bio : "")),
+                Set.copyOf(tags.keySet()), types, statuses);
+
+        lock.writeLock().lock();
+        try {
+            int docId = docIds.computeIfAbsent(programmerId, id -> {
+                docs.add(null);
+                return docs.size() - 1;
+            });
+            unindex(docId);
+
+            docs.set(docId, doc);
+            live.set(docId);
+            tags.forEach((tag, label) -> {
+                technologies.computeIfAbsent(tag, t -> new BitSet()).set(docId);
+                technologyLabels.putIfAbsent(tag, label);
+            });
+            types.forEach(type -> projectTypes.computeIfAbsent(type, t -> new BitSet()).set(docId));
+            statuses.forEach(status -> projectStatuses.computeIfAbsent(status, s -> new BitSet()).set(docId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID programmerId) {
+        lock.writeLock().lock();
+        try {
+            Integer docId = docIds.get(programmerId);
+            if (docId != null) {
+                unindex(docId);
+                docs.set(docId, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return live.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public SearchHits search(ProgrammerSearchCriteria criteria) {
+        lock.readLock().lock();
+        try {
+            BitSet matches = (BitSet) live.clone();
+
+            Set<String> tags = normalizeAll(criteria.technologies());
+            if (!tags.isEmpty()) {
+                if (criteria.match() == TechnologyMatch.ANY) {
+                    BitSet any = new BitSet();
+                    tags.forEach(tag -> orInto(any, technologies.get(tag)));
+                    matches.and(any);
+                } else {
+                    tags.forEach(tag -> andInto(matches, technologies.get(tag)));
+                }
+            }
+            if (criteria.projectType() != null) {
+                andInto(matches, projectTypes.get(criteria.projectType()));
+            }
+            if (criteria.projectStatus() != null) {
+                andInto(matches, projectStatuses.get(criteria.projectStatus()));
+            }
+
+            String[] words = criteria.text() != null ? WHITESPACE.split(normalize(criteria.text())) : new String[0];
+            List<Doc> hits = new ArrayList<>(matches.cardinality());
+            Map<String, Integer> counts = new HashMap<>();
+            for (int docId = matches.nextSetBit(0); docId >= 0; docId = matches.nextSetBit(docId + 1)) {
+                Doc doc = docs.get(docId);
+                if (containsAll(doc.text(), words)) {
+                    hits.add(doc);
+                    doc.technologies().forEach(tag -> counts.merge(tag, 1, Integer::sum));
+                }
+            }
+
+            hits.sort(Comparator.comparing(Doc::name, String.CASE_INSENSITIVE_ORDER)
+                    .thenComparing(Doc::programmerId));
+
+            Map<String, Integer> facets = new LinkedHashMap<>();
+            counts.entrySet().stream()
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .forEach(e -> facets.put(technologyLabels.get(e.getKey()), e.getValue()));
+
+            return new SearchHits(hits.stream().map(Doc::programmerId).toList(), facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Case, accent and whitespace insensitive form used for tags and text.
+     */
+    public static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String stripped = DIACRITICS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+        return WHITESPACE.matcher(stripped.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> normalizeAll(Set<String> values) {
+        Set<String> normalized = new HashSet<>();
+        if (values != null) {
+            for (String value : values) {
+                String tag = normalize(value);
+                if (!tag.isEmpty()) {
+                    normalized.add(tag);
+                }
+            }
+        }
+        return normalized;
+    }
+
+    private void unindex(int docId) {
+        Doc previous = docs.get(docId);
+        if (previous == null) {
+            return;
+        }
+
+        live.clear(docId);
+        previous.technologies().forEach(tag -> {
+            BitSet posting = technologies.get(tag);
+            posting.clear(docId);
+            if (posting.isEmpty()) {
+                technologies.remove(tag);
+                technologyLabels.remove(tag);
+            }
+        });
+        previous.projectTypes().forEach(type -> projectTypes.get(type).clear(docId));
+        previous.projectStatuses().forEach(status -> projectStatuses.get(status).clear(docId));
+    }
+
+    private static void andInto(BitSet target, BitSet posting) {
+        if (posting == null) {
+            target.clear();
+        } else {
+            target.and(posting);
+        }
+    }
+
+    private static void orInto(BitSet target, BitSet posting) {
+        if (posting != null) {
+            target.or(posting);
+        }
+    }
+
+    private static boolean containsAll(String text, String[] words) {
+        for (String word : words) {
+            if (!text.contains(word)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record Doc(UUID programmerId, String name, String text, Set<String> technologies,
+            Set<ProjectType> projectTypes, Set<ProjectStatus> projectStatuses) {
+    }
+}
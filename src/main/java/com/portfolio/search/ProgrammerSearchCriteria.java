@@ -0,0 +1,19 @@
+package com.portfolio.search;
+
+import com.portfolio.model.ProjectStatus;
+import com.portfolio.model.ProjectType;
+
+import java.util.Set;
+
+/**
+ * Filters are combined with AND; any of them may be null or empty. Technology,
+ * project type and status are matched per programmer, across all of their
+ * projects.
+ */
+public record ProgrammerSearchCriteria(
+        Set<String> technologies,
+        TechnologyMatch match,
+        ProjectType projectType,
+        ProjectStatus projectStatus,
+        String text) {
+}
@@ -0,0 +1,12 @@
+package com.portfolio.search;
+
+import com.portfolio.model.ProjectStatus;
+import com.portfolio.model.ProjectType;
+
+import java.util.UUID;
+
+/**
+ * The searchable attributes of one project, read without loading the entity.
+ */
+public record ProjectFacts(UUID userId, String[] technologies, ProjectType projectType, ProjectStatus status) {
+}
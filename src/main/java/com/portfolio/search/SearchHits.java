@@ -0,0 +1,12 @@
+package com.portfolio.search;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Matching programmer ids ordered by name, plus the number of matches using
+ * each technology, keyed by its display label and sorted by count.
+ */
+public record SearchHits(List<UUID> programmerIds, Map<String, Integer> technologyCounts) {
+}
@@ -0,0 +1,6 @@
+package com.portfolio.search;
+
+public enum TechnologyMatch {
+    ALL,
+    ANY
+}
@@ -1,7 +1,5 @@
 package com.portfolio.security;
 
-import com.portfolio.model.Role;
-import com.portfolio.model.User;
 import com.portfolio.repository.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -17,7 +15,6 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
@@ -34,31 +31,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = extractTokenFromRequest(request);
 
-        if (StringUtils.hasText(token) && jwtService.isTokenValid(token)) {
-            String email = jwtService.extractEmail(token);
-            String roleStr = jwtService.extractRole(token);
-            String userIdStr = jwtService.extractUserId(token);
-
-            if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                try {
-                    UUID userId = UUID.fromString(userIdStr);
-                    Role role = Role.valueOf(roleStr);
+        if (StringUtils.hasText(token) && SecurityContextHolder.getContext().getAuthentication() == null) {
+            jwtService.parse(token).ifPresent(claims -> authenticate(request, claims));
+        }
 
-                    UserPrincipal principal = new UserPrincipal(userId, email, role);
+        filterChain.doFilter(request, response);
+    }
 
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            principal, null, principal.getAuthorities());
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+    private void authenticate(HttpServletRequest request, JwtClaims claims) {
+        UserPrincipal principal = new UserPrincipal(claims.userId(), claims.email(), claims.role());
 
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                    log.debug("Authenticated user: {} with role: {}", email, role);
-                } catch (Exception e) {
-                    log.error("Error setting authentication: {}", e.getMessage());
-                }
-            }
-        }
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                principal, null, principal.getAuthorities());
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-        filterChain.doFilter(request, response);
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+        log.debug("Authenticated user: {} with role: {}", claims.email(), claims.role());
     }
 
     private String extractTokenFromRequest(HttpServletRequest request) {
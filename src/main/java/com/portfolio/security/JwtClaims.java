@@ -0,0 +1,17 @@
+package com.portfolio.security;
+
+import com.portfolio.model.Role;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Verified access-token claims. {@code expiresAt} is null for tokens issued
+ * without an expiration.
+ */
+public record JwtClaims(UUID userId, String email, Role role, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+}
@@ -1,5 +1,6 @@
 package com.portfolio.security;
 
+import com.portfolio.model.Role;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -8,9 +9,12 @@ import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 @Service
 @Slf4j
@@ -18,12 +22,20 @@ public class JwtService {
 
     private final SecretKey secretKey;
     private final long expiration;
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokens;
 
     public JwtService(
             @Value("${app.jwt.secret}") String secret,
-            @Value("${app.jwt.expiration}") long expiration) {
+            @Value("${app.jwt.expiration}") long expiration,
+            @Value("${app.jwt.verified-cache-size:10000}") int verifiedCacheSize) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.expiration = expiration;
+        // JwtParser is immutable and thread-safe, so one instance serves every request
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokens = new VerifiedTokenCache(verifiedCacheSize);
     }
 
     public String generateToken(String email, String role, String userId) {
@@ -40,41 +52,39 @@ public class JwtService {
                 .compact();
     }
 
-    public String extractEmail(String token) {
-        return extractAllClaims(token).getSubject();
-    }
+    /**
+     * Verifies the token once and returns its typed claims, or empty when the
+     * token is malformed, forged, expired or carries unusable claims. Repeat
+     * tokens are answered from the verified-token cache until they expire.
+     */
+    public Optional<JwtClaims> parse(String token) {
+        Instant now = Instant.now();
+        JwtClaims cached = verifiedTokens.get(token, now);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
 
-    public String extractRole(String token) {
-        return extractAllClaims(token).get("role", String.class);
-    }
+        try {
+            Claims payload = parser.parseSignedClaims(token).getPayload();
+            String userId = payload.get("userId", String.class);
+            String role = payload.get("role", String.class);
+            if (payload.getSubject() == null || userId == null || role == null) {
+                log.warn("Invalid JWT token: missing required claims");
+                return Optional.empty();
+            }
 
-    public String extractUserId(String token) {
-        return extractAllClaims(token).get("userId", String.class);
-    }
+            Date expiresAt = payload.getExpiration();
+            JwtClaims claims = new JwtClaims(
+                    UUID.fromString(userId),
+                    payload.getSubject(),
+                    Role.valueOf(role),
+                    expiresAt != null ? expiresAt.toInstant() : null);
 
-    public boolean isTokenValid(String token) {
-        try {
-            extractAllClaims(token);
-            return true;
+            verifiedTokens.put(token, claims);
+            return Optional.of(claims);
         } catch (JwtException | IllegalArgumentException e) {
             log.warn("Invalid JWT token: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         }
     }
-
-    public boolean isTokenExpired(String token) {
-        try {
-            return extractAllClaims(token).getExpiration().before(new Date());
-        } catch (ExpiredJwtException e) {
-            return true;
-        }
-    }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
 }
@@ -0,0 +1,66 @@
+package com.portfolio.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Claims of recently verified tokens, keyed by the SHA-256 of the token so raw
+ * bearer tokens are never retained. Entries are kept in access order and the
+ * least recently used one is dropped when the cache is full, so inserts stay
+ * constant time. A hit for an expired token removes it and counts as a miss.
+ */
+class VerifiedTokenCache {
+
+    private final int maxEntries;
+    private final Map<String, JwtClaims> entries;
+
+    VerifiedTokenCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, JwtClaims> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    JwtClaims get(String token, Instant now) {
+        if (maxEntries <= 0) {
+            return null;
+        }
+        String key = hash(token);
+        JwtClaims claims = entries.get(key);
+        if (claims != null && claims.isExpired(now)) {
+            entries.remove(key, claims);
+            return null;
+        }
+        return claims;
+    }
+
+    void put(String token, JwtClaims claims) {
+        // Tokens without an expiration are always re-verified
+        if (maxEntries <= 0 || claims.expiresAt() == null) {
+            return;
+        }
+        entries.put(hash(token), claims);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -3,24 +3,25 @@ package com.portfolio.service;
 import com.portfolio.dto.AdvisoryActionRequest;
 import com.portfolio.dto.AdvisoryRequest;
 import com.portfolio.dto.AdvisoryResponse;
+import com.portfolio.event.ScheduleChangedEvent;
 import com.portfolio.exception.BadRequestException;
 import com.portfolio.exception.ResourceNotFoundException;
 import com.portfolio.model.*;
 import com.portfolio.repository.AdvisoryRepository;
-import com.portfolio.repository.AvailabilityRepository;
 import com.portfolio.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.DayOfWeek;
+import java.sql.SQLException;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -30,10 +31,14 @@ import java.util.UUID;
 @Transactional
 public class AdvisoryService {
 
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
     private final AdvisoryRepository advisoryRepository;
     private final UserRepository userRepository;
-    private final AvailabilityRepository availabilityRepository;
     private final NotificationService notificationService;
+    private final DashboardRollupService dashboardRollupService;
+    private final SlotService slotService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Page<AdvisoryResponse> findAll(AdvisoryStatus status, Pageable pageable) {
         if (status != null) {
@@ -80,11 +85,9 @@ public class AdvisoryService {
             throw new BadRequestException("La fecha de la asesoría debe ser en el futuro");
         }
 
-        // Validate availability
-        validateAvailability(programmer.getId(), request.getScheduledAt());
-
-        // Check for conflicts
-        validateNoConflicts(programmer.getId(), request.getScheduledAt());
+        // Validate the slot is inside availability and not already taken
+        slotService.validateBookable(programmer.getId(), request.getScheduledAt());
+        slotService.lockForBooking(programmer.getId(), request.getScheduledAt());
 
         Advisory advisory = Advisory.builder()
                 .programmer(programmer)
@@ -94,7 +97,9 @@ public class AdvisoryService {
                 .requestComment(request.getComment())
                 .build();
 
-        Advisory saved = advisoryRepository.save(advisory);
+        Advisory saved = insert(advisory);
+        dashboardRollupService.advisoryCreated(saved);
+        eventPublisher.publishEvent(new ScheduleChangedEvent(programmer.getId(), saved.getId()));
         log.info("Created advisory {} from {} to {} at {}",
                 saved.getId(), external.getEmail(), programmer.getEmail(), saved.getScheduledAt());
 
@@ -120,6 +125,8 @@ public class AdvisoryService {
         advisory.setResponseMessage(request.getMessage());
 
         Advisory saved = advisoryRepository.save(advisory);
+        dashboardRollupService.advisoryStatusChanged(saved, AdvisoryStatus.PENDING);
+        eventPublisher.publishEvent(new ScheduleChangedEvent(saved.getProgrammer().getId(), saved.getId()));
         log.info("Approved advisory: {}", advisoryId);
 
         notificationService.sendAdvisoryApprovedNotification(advisory.getExternal(), advisory.getProgrammer(), saved);
@@ -144,6 +151,8 @@ public class AdvisoryService {
         advisory.setResponseMessage(request.getMessage());
 
         Advisory saved = advisoryRepository.save(advisory);
+        dashboardRollupService.advisoryStatusChanged(saved, AdvisoryStatus.PENDING);
+        eventPublisher.publishEvent(new ScheduleChangedEvent(saved.getProgrammer().getId(), saved.getId()));
         log.info("Rejected advisory: {}", advisoryId);
 
         notificationService.sendAdvisoryRejectedNotification(advisory.getExternal(), advisory.getProgrammer(), saved);
@@ -167,6 +176,8 @@ public class AdvisoryService {
         advisory.setStatus(AdvisoryStatus.CANCELLED);
 
         Advisory saved = advisoryRepository.save(advisory);
+        dashboardRollupService.advisoryStatusChanged(saved, AdvisoryStatus.PENDING);
+        eventPublisher.publishEvent(new ScheduleChangedEvent(saved.getProgrammer().getId(), saved.getId()));
         log.info("Cancelled advisory: {}", advisoryId);
 
         return mapToResponse(saved);
@@ -188,31 +199,48 @@ public class AdvisoryService {
         advisory.setStatus(AdvisoryStatus.COMPLETED);
 
         Advisory saved = advisoryRepository.save(advisory);
+        dashboardRollupService.advisoryStatusChanged(saved, AdvisoryStatus.APPROVED);
+        eventPublisher.publishEvent(new ScheduleChangedEvent(saved.getProgrammer().getId(), saved.getId()));
         log.info("Completed advisory: {}", advisoryId);
 
         return mapToResponse(saved);
     }
 
-    private void validateAvailability(UUID programmerId, LocalDateTime scheduledAt) {
-        DayOfWeek dayOfWeek = scheduledAt.getDayOfWeek();
-        LocalTime time = scheduledAt.toLocalTime();
-
-        List<Availability> availabilities = availabilityRepository
-                .findByUserIdAndDayOfWeekAndIsActiveTrue(programmerId, dayOfWeek);
-
-        boolean isAvailable = availabilities.stream()
-                .anyMatch(a -> !time.isBefore(a.getStartTime()) && !time.isAfter(a.getEndTime().minusMinutes(30)));
-
-        if (!isAvailable) {
-            throw new BadRequestException("El programador no está disponible en ese horario");
+    /**
+     * Queues reminders for the advisories that are still approved, upcoming
+     * and not yet reminded. The batch is claimed with one conditional update in
+     * the same transaction as its notifications, so each advisory is reminded
+     * once even when several schedulers fire it.
+     *
+     * @return the number of advisories reminded
+     */
+    public int sendReminders(List<UUID> advisoryIds) {
+        if (advisoryIds.isEmpty()) {
+            return 0;
+        }
+        List<UUID> claimed = advisoryRepository.markRemindersSent(advisoryIds, LocalDateTime.now());
+        if (claimed.isEmpty()) {
+            return 0;
         }
-    }
 
-    private void validateNoConflicts(UUID programmerId, LocalDateTime scheduledAt) {
-        List<Advisory> conflicts = advisoryRepository.findConflictingAdvisories(programmerId, scheduledAt);
+        List<Advisory> advisories = advisoryRepository.findWithUsersByIdIn(claimed);
+        notificationService.sendAdvisoryReminders(advisories);
+        return advisories.size();
+    }
 
-        if (!conflicts.isEmpty()) {
-            throw new BadRequestException("Ya existe una asesoría programada en ese horario");
+    private Advisory insert(Advisory advisory) {
+        try {
+            return advisoryRepository.saveAndFlush(advisory);
+        } catch (DataIntegrityViolationException e) {
+            // Another instance booked an overlapping slot after our checks
+            if (e.getMostSpecificCause() instanceof SQLException sql
+                    && EXCLUSION_VIOLATION.equals(sql.getSQLState())) {
+                throw new BadRequestException("Ya existe una asesoría programada en ese horario");
+            }
+            throw e;
+        } catch (PessimisticLockingFailureException e) {
+            // Overlapping inserts from two instances can deadlock on the exclusion check
+            throw new BadRequestException("El horario está siendo reservado, intenta nuevamente");
         }
     }
 
@@ -2,6 +2,7 @@ package com.portfolio.service;
 
 import com.portfolio.dto.AvailabilityRequest;
 import com.portfolio.dto.AvailabilityResponse;
+import com.portfolio.event.ProgrammerChangedEvent;
 import com.portfolio.exception.BadRequestException;
 import com.portfolio.exception.ResourceNotFoundException;
 import com.portfolio.model.Availability;
@@ -10,6 +11,7 @@ import com.portfolio.repository.AvailabilityRepository;
 import com.portfolio.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +27,7 @@ public class AvailabilityService {
 
     private final AvailabilityRepository availabilityRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<AvailabilityResponse> findByUserId(UUID userId) {
         return availabilityRepository.findByUserIdAndIsActiveTrue(userId)
@@ -53,6 +56,7 @@ public class AvailabilityService {
 
         Availability saved = availabilityRepository.save(availability);
         log.info("Created availability for user: {} on {}", userId, request.getDayOfWeek());
+        eventPublisher.publishEvent(new ProgrammerChangedEvent(userId));
         return mapToResponse(saved);
     }
 
@@ -77,6 +81,7 @@ public class AvailabilityService {
 
         Availability saved = availabilityRepository.save(availability);
         log.info("Updated availability: {}", availabilityId);
+        eventPublisher.publishEvent(new ProgrammerChangedEvent(userId));
         return mapToResponse(saved);
     }
 
@@ -92,6 +97,7 @@ public class AvailabilityService {
         availability.setIsActive(false);
         availabilityRepository.save(availability);
         log.info("Deactivated availability: {}", availabilityId);
+        eventPublisher.publishEvent(new ProgrammerChangedEvent(userId));
     }
 
     private AvailabilityResponse mapToResponse(Availability availability) {
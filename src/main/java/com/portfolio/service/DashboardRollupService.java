@@ -0,0 +1,148 @@
+package com.portfolio.service;
+
+import com.portfolio.event.DashboardChangedEvent;
+import com.portfolio.model.Advisory;
+import com.portfolio.model.AdvisoryStatus;
+import com.portfolio.model.DashboardRollup;
+import com.portfolio.model.Project;
+import com.portfolio.model.RollupMetric;
+import com.portfolio.repository.DashboardRollupRepository;
+import com.portfolio.scheduler.ClusterLeases;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Keeps {@code dashboard_rollup} in step with advisories and projects. Deltas
+ * must be recorded inside the transaction that changes the source row, so the
+ * counters commit or roll back with it. Rows are touched in a fixed order to
+ * avoid deadlocks between concurrent writers on the same programmer.
+ *
+ * <p>A periodic verifier compares the rollup with {@code dashboard_rollup_expected}
+ * and rebuilds it when they differ, covering writes made outside the services.
+ * Only the node holding the {@value #VERIFY_LEASE} lease runs it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(propagation = Propagation.MANDATORY)
+public class DashboardRollupService {
+
+    private static final Comparator<Counter> ORDER = Comparator.comparing(Counter::metric)
+            .thenComparing(Counter::dimension)
+            .thenComparing(Counter::activityDate);
+
+    static final String VERIFY_LEASE = "dashboard-rollup-verify";
+
+    private final DashboardRollupRepository rollupRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ClusterLeases leases;
+
+    public void advisoryCreated(Advisory advisory) {
+        Map<Counter, Long> deltas = new TreeMap<>(ORDER);
+        addAdvisory(deltas, advisory.getStatus(), advisory, 1);
+        apply(advisory.getProgrammer().getId(), deltas);
+    }
+
+    public void advisoryStatusChanged(Advisory advisory, AdvisoryStatus previous) {
+        Map<Counter, Long> deltas = new TreeMap<>(ORDER);
+        addAdvisory(deltas, previous, advisory, -1);
+        addAdvisory(deltas, advisory.getStatus(), advisory, 1);
+        apply(advisory.getProgrammer().getId(), deltas);
+    }
+
+    public void projectCreated(Project project) {
+        Map<Counter, Long> deltas = new TreeMap<>(ORDER);
+        addProject(deltas, project.getTechnologies(), 1);
+        apply(project.getUser().getId(), deltas);
+    }
+
+    public void projectUpdated(Project project, String[] previousTechnologies) {
+        Map<Counter, Long> deltas = new TreeMap<>(ORDER);
+        addTechnologies(deltas, previousTechnologies, -1);
+        addTechnologies(deltas, project.getTechnologies(), 1);
+        apply(project.getUser().getId(), deltas);
+    }
+
+    public void projectDeleted(Project project) {
+        Map<Counter, Long> deltas = new TreeMap<>(ORDER);
+        addProject(deltas, project.getTechnologies(), -1);
+        apply(project.getUser().getId(), deltas);
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.dashboard.rollup.verify-initial-delay-ms:60000}",
+            fixedDelayString = "${app.dashboard.rollup.verify-interval-ms:3600000}")
+    @Transactional
+    public void verify() {
+        if (!leases.isHeld(VERIFY_LEASE)) {
+            return;
+        }
+
+        long drift = rollupRepository.countDrift();
+
+        // Table lock before touching any row, so no row locks are held while waiting on writers
+        rollupRepository.lockForRebuild();
+        if (drift == 0) {
+            rollupRepository.deleteEmpty();
+            log.debug("Dashboard rollup matches source tables");
+            return;
+        }
+
+        log.warn("Dashboard rollup differs from source tables on {} rows, rebuilding", drift);
+        rollupRepository.deleteAllRows();
+        int rows = rollupRepository.insertExpected();
+        log.info("Rebuilt dashboard rollup with {} rows", rows);
+        eventPublisher.publishEvent(new DashboardChangedEvent());
+    }
+
+    private static void addAdvisory(Map<Counter, Long> deltas, AdvisoryStatus status, Advisory advisory, long delta) {
+        LocalDate day = advisory.getScheduledAt().toLocalDate();
+        deltas.merge(new Counter(RollupMetric.ADVISORY, status.name(), day), delta, Long::sum);
+    }
+
+    private static void addProject(Map<Counter, Long> deltas, String[] technologies, long delta) {
+        deltas.merge(new Counter(RollupMetric.PROJECT, "", DashboardRollup.UNDATED), delta, Long::sum);
+        addTechnologies(deltas, technologies, delta);
+    }
+
+    private static void addTechnologies(Map<Counter, Long> deltas, String[] technologies, long delta) {
+        if (technologies == null) {
+            return;
+        }
+        for (String technology : technologies) {
+            if (technology != null) {
+                deltas.merge(new Counter(RollupMetric.TECHNOLOGY, technology, DashboardRollup.UNDATED),
+                        delta, Long::sum);
+            }
+        }
+    }
+
+    private void apply(UUID programmerId, Map<Counter, Long> deltas) {
+        boolean changed = false;
+        for (Map.Entry<Counter, Long> entry : deltas.entrySet()) {
+            Counter counter = entry.getKey();
+            if (entry.getValue() != 0) {
+                rollupRepository.increment(counter.metric().name(), programmerId, counter.dimension(),
+                        counter.activityDate(), entry.getValue());
+                changed = true;
+            }
+        }
+        if (changed) {
+            eventPublisher.publishEvent(new DashboardChangedEvent());
+        }
+    }
+
+    private record Counter(RollupMetric metric, String dimension, LocalDate activityDate) {
+    }
+}
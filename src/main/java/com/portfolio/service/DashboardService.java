@@ -1,28 +1,32 @@
 package com.portfolio.service;
 
 import com.portfolio.dto.DashboardStats;
-import com.portfolio.model.Project;
-import com.portfolio.repository.AdvisoryRepository;
-import com.portfolio.repository.ProjectRepository;
+import com.portfolio.model.RollupMetric;
+import com.portfolio.repository.DashboardRollupRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.LocalDate;
 import java.util.*;
 
+/**
+ * Dashboard figures come from {@code dashboard_rollup}, so each view reads a
+ * row per programmer, status, day or technology instead of scanning the
+ * advisories and projects tables.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
 public class DashboardService {
 
-    private final AdvisoryRepository advisoryRepository;
-    private final ProjectRepository projectRepository;
+    private final DashboardRollupRepository rollupRepository;
 
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final int TOP_TECHNOLOGIES = 10;
 
     public DashboardStats getGlobalStats() {
         return buildStats(null);
@@ -35,51 +39,34 @@ public class DashboardService {
     private DashboardStats buildStats(UUID programmerId) {
         // Advisory count by status
         Map<String, Long> statusCounts = new HashMap<>();
-        List<Object[]> rawCounts = programmerId != null
-                ? advisoryRepository.countByStatusForProgrammer(programmerId)
-                : advisoryRepository.countByStatus();
-
-        for (Object[] row : rawCounts) {
-            statusCounts.put(row[0].toString(), (Long) row[1]);
+        for (Object[] row : rollupRepository.sumByDimension(RollupMetric.ADVISORY, programmerId, Pageable.unpaged())) {
+            statusCounts.put(row[0].toString(), ((Number) row[1]).longValue());
         }
 
         // Time series (last 30 days)
-        LocalDateTime since = LocalDateTime.now().minusDays(30);
-        List<Object[]> rawTimeSeries = advisoryRepository.countByDateSince(since);
+        LocalDate since = LocalDate.now().minusDays(30);
+        List<Object[]> rawTimeSeries = rollupRepository.sumByDateSince(RollupMetric.ADVISORY, since);
         List<DashboardStats.TimeSeriesData> timeSeries = new ArrayList<>();
 
         for (Object[] row : rawTimeSeries) {
             timeSeries.add(DashboardStats.TimeSeriesData.builder()
                     .date(row[0].toString())
-                    .count((Long) row[1])
+                    .count(((Number) row[1]).longValue())
                     .build());
         }
 
         // Top technologies
-        List<Project> projects = programmerId != null
-                ? projectRepository.findByUserIdOrderByCreatedAtDesc(programmerId)
-                : projectRepository.findAll();
-
-        Map<String, Long> techCounts = new HashMap<>();
-        for (Project project : projects) {
-            if (project.getTechnologies() != null) {
-                for (String tech : project.getTechnologies()) {
-                    techCounts.merge(tech, 1L, Long::sum);
-                }
-            }
-        }
-
-        List<DashboardStats.TechnologyCount> topTech = techCounts.entrySet().stream()
-                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-                .limit(10)
-                .map(e -> DashboardStats.TechnologyCount.builder()
-                        .technology(e.getKey())
-                        .count(e.getValue())
+        List<DashboardStats.TechnologyCount> topTech = rollupRepository
+                .sumByDimension(RollupMetric.TECHNOLOGY, programmerId, PageRequest.of(0, TOP_TECHNOLOGIES))
+                .stream()
+                .map(row -> DashboardStats.TechnologyCount.builder()
+                        .technology(row[0].toString())
+                        .count(((Number) row[1]).longValue())
                         .build())
                 .toList();
 
         // Summary counts
-        long totalProjects = projects.size();
+        long totalProjects = rollupRepository.sum(RollupMetric.PROJECT, programmerId);
         long totalAdvisories = statusCounts.values().stream().mapToLong(Long::longValue).sum();
         long pending = statusCounts.getOrDefault("PENDING", 0L);
         long completed = statusCounts.getOrDefault("COMPLETED", 0L);
@@ -88,21 +75,8 @@ public class DashboardService {
         List<DashboardStats.UserCount> projectsByProgrammer = null;
 
         if (programmerId == null) {
-            advisoriesByProgrammer = advisoryRepository.countByProgrammer().stream()
-                .map(row -> DashboardStats.UserCount.builder()
-                    .userId(row[0].toString())
-                    .name(row[1].toString())
-                    .count((Long) row[2])
-                    .build())
-                .toList();
-
-            projectsByProgrammer = projectRepository.countByProgrammer().stream()
-                .map(row -> DashboardStats.UserCount.builder()
-                    .userId(row[0].toString())
-                    .name(row[1].toString())
-                    .count((Long) row[2])
-                    .build())
-                .toList();
+            advisoriesByProgrammer = toUserCounts(rollupRepository.sumByProgrammer(RollupMetric.ADVISORY));
+            projectsByProgrammer = toUserCounts(rollupRepository.sumByProgrammer(RollupMetric.PROJECT));
         }
 
         return DashboardStats.builder()
@@ -117,4 +91,14 @@ public class DashboardService {
                 .completedAdvisories(completed)
                 .build();
     }
+
+    private static List<DashboardStats.UserCount> toUserCounts(List<Object[]> rows) {
+        return rows.stream()
+                .map(row -> DashboardStats.UserCount.builder()
+                        .userId(row[0].toString())
+                        .name(row[1].toString())
+                        .count(((Number) row[2]).longValue())
+                        .build())
+                .toList();
+    }
 }
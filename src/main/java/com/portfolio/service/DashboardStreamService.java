@@ -0,0 +1,296 @@
+package com.portfolio.service;
+
+import com.portfolio.dto.DashboardDelta;
+import com.portfolio.dto.DashboardStats;
+import com.portfolio.event.DashboardChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes the global dashboard to admin consoles over SSE. One snapshot is
+ * shared by every subscriber: committed {@link DashboardChangedEvent}s mark it
+ * dirty and a scheduled refresh recomputes it at most once per interval, then
+ * fans the difference out as a {@code delta} event. Writes on other instances
+ * raise no local event, so the snapshot is also recomputed once per resync
+ * interval regardless.
+ *
+ * <p>Each subscriber has a small bounded queue drained on a shared pool, so a
+ * slow client only delays itself. When its queue overflows the pending deltas
+ * are dropped and the client gets a fresh {@code snapshot} instead.
+ */
+@Service
+@Slf4j
+public class DashboardStreamService {
+
+    private static final String SNAPSHOT_EVENT = "snapshot";
+    private static final String DELTA_EVENT = "delta";
+
+    private final DashboardService dashboardService;
+    private final int maxSubscribers;
+    private final int subscriberQueueSize;
+    private final long emitterTimeoutMs;
+    private final long resyncNanos;
+    private final ThreadPoolExecutor executor;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile DashboardStats current;
+    private volatile long computedAt;
+
+    public DashboardStreamService(
+            DashboardService dashboardService,
+            @Value("${app.dashboard.stream.max-subscribers:200}") int maxSubscribers,
+            @Value("${app.dashboard.stream.subscriber-queue-size:16}") int subscriberQueueSize,
+            @Value("${app.dashboard.stream.timeout:30m}") Duration emitterTimeout,
+            @Value("${app.dashboard.stream.pool-size:4}") int poolSize,
+            @Value("${app.dashboard.stream.resync-interval:30s}") Duration resyncInterval) {
+        this.dashboardService = dashboardService;
+        this.maxSubscribers = maxSubscribers;
+        this.subscriberQueueSize = subscriberQueueSize;
+        this.emitterTimeoutMs = emitterTimeout.toMillis();
+        this.resyncNanos = resyncInterval.toNanos();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxSubscribers), new CustomizableThreadFactory("dashboard-sse-"));
+    }
+
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Demasiadas conexiones al panel en vivo, intenta más tarde");
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        subscribers.add(subscriber);
+        subscriber.resync();
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDashboardChanged(DashboardChangedEvent event) {
+        dirty.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${app.dashboard.stream.refresh-interval-ms:1000}")
+    public void refresh() {
+        if (subscribers.isEmpty()) {
+            // Nobody is watching; the next subscriber computes a fresh snapshot
+            current = null;
+            return;
+        }
+        if (!dirty.getAndSet(false) && System.nanoTime() - computedAt < resyncNanos) {
+            return;
+        }
+
+        DashboardStats previous = current;
+        computedAt = System.nanoTime();
+        DashboardStats next = dashboardService.getGlobalStats();
+        current = next;
+        if (previous == null) {
+            return;
+        }
+
+        DashboardDelta delta = diff(previous, next);
+        if (!delta.equals(new DashboardDelta())) {
+            subscribers.forEach(subscriber -> subscriber.offer(SseEmitter.event().name(DELTA_EVENT).data(delta)));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.dashboard.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> subscriber.offer(SseEmitter.event().comment("heartbeat")));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        executor.shutdownNow();
+    }
+
+    private DashboardStats snapshot() {
+        DashboardStats stats = current;
+        if (stats == null) {
+            synchronized (this) {
+                stats = current;
+                if (stats == null) {
+                    dirty.set(false);
+                    computedAt = System.nanoTime();
+                    stats = dashboardService.getGlobalStats();
+                    current = stats;
+                }
+            }
+        }
+        return stats;
+    }
+
+    // ============ DIFF ============
+
+    private static DashboardDelta diff(DashboardStats before, DashboardStats after) {
+        Map<String, Long> statusChanges = new LinkedHashMap<>();
+        Set<String> statuses = new HashSet<>(before.getAdvisoryCountByStatus().keySet());
+        statuses.addAll(after.getAdvisoryCountByStatus().keySet());
+        for (String status : statuses) {
+            Long count = after.getAdvisoryCountByStatus().getOrDefault(status, 0L);
+            if (!count.equals(before.getAdvisoryCountByStatus().getOrDefault(status, 0L))) {
+                statusChanges.put(status, count);
+            }
+        }
+
+        Map<String, Long> previousPoints = new HashMap<>();
+        before.getAdvisoryTimeSeries().forEach(point -> previousPoints.put(point.getDate(), point.getCount()));
+        List<DashboardStats.TimeSeriesData> points = after.getAdvisoryTimeSeries().stream()
+                .filter(point -> !point.getCount().equals(previousPoints.get(point.getDate())))
+                .toList();
+
+        return DashboardDelta.builder()
+                .advisoryCountByStatus(statusChanges.isEmpty() ? null : statusChanges)
+                .advisoryTimeSeries(points.isEmpty() ? null : points)
+                .topTechnologies(Objects.equals(before.getTopTechnologies(), after.getTopTechnologies())
+                        ? null : after.getTopTechnologies())
+                .advisoriesByProgrammer(diffUserCounts(before.getAdvisoriesByProgrammer(),
+                        after.getAdvisoriesByProgrammer()))
+                .projectsByProgrammer(diffUserCounts(before.getProjectsByProgrammer(),
+                        after.getProjectsByProgrammer()))
+                .totalProjects(changed(before.getTotalProjects(), after.getTotalProjects()))
+                .totalAdvisories(changed(before.getTotalAdvisories(), after.getTotalAdvisories()))
+                .pendingAdvisories(changed(before.getPendingAdvisories(), after.getPendingAdvisories()))
+                .completedAdvisories(changed(before.getCompletedAdvisories(), after.getCompletedAdvisories()))
+                .build();
+    }
+
+    private static List<DashboardStats.UserCount> diffUserCounts(List<DashboardStats.UserCount> before,
+            List<DashboardStats.UserCount> after) {
+        Map<String, DashboardStats.UserCount> previous = index(before);
+        Map<String, DashboardStats.UserCount> next = index(after);
+
+        List<DashboardStats.UserCount> changes = new ArrayList<>();
+        next.forEach((userId, count) -> {
+            if (!count.equals(previous.get(userId))) {
+                changes.add(count);
+            }
+        });
+        previous.forEach((userId, count) -> {
+            if (!next.containsKey(userId)) {
+                changes.add(new DashboardStats.UserCount(userId, count.getName(), 0L));
+            }
+        });
+        return changes.isEmpty() ? null : changes;
+    }
+
+    private static Map<String, DashboardStats.UserCount> index(List<DashboardStats.UserCount> counts) {
+        Map<String, DashboardStats.UserCount> byUser = new LinkedHashMap<>();
+        if (counts != null) {
+            counts.forEach(count -> byUser.put(count.getUserId(), count));
+        }
+        return byUser;
+    }
+
+    private static Long changed(long before, long after) {
+        return before != after ? after : null;
+    }
+
+    // ============ SUBSCRIBERS ============
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean needsSnapshot;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(subscriberQueueSize);
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            if (!queue.offer(event)) {
+                // Too slow to keep up: drop what is pending and catch up from a snapshot
+                queue.clear();
+                needsSnapshot = true;
+            }
+            scheduleDrain();
+        }
+
+        void resync() {
+            needsSnapshot = true;
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                log.warn("Dashboard stream pool saturated, delaying updates for a subscriber");
+            }
+        }
+
+        private void drain() {
+            try {
+                while (true) {
+                    if (needsSnapshot) {
+                        needsSnapshot = false;
+                        queue.clear();
+                        emitter.send(SseEmitter.event().name(SNAPSHOT_EVENT).data(snapshot()));
+                    }
+                    SseEmitter.SseEventBuilder event = queue.poll();
+                    if (event == null) {
+                        break;
+                    }
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away or the emitter already completed
+                subscribers.remove(this);
+                emitter.completeWithError(e);
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Failed to push dashboard update: {}", e.getMessage());
+                subscribers.remove(this);
+                emitter.completeWithError(e);
+                return;
+            } finally {
+                draining.set(false);
+            }
+
+            // Events offered after the last poll but before the flag was cleared
+            if (!queue.isEmpty() || needsSnapshot) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -0,0 +1,337 @@
+package com.portfolio.service;
+
+import com.portfolio.event.NotificationQueuedEvent;
+import com.portfolio.model.NotificationLog;
+import com.portfolio.model.NotificationType;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Drains the notification outbox. A single dispatcher thread claims due rows
+ * per channel, never more than the channel's free delivery permits can carry,
+ * and hands them to a bounded worker pool. Failed deliveries are retried with
+ * exponential backoff until {@code max-attempts}, then marked FAILED.
+ *
+ * <p>Emails go out in batches: each permit is one SMTP session that sends up
+ * to {@code app.notifications.mail.batch-size} messages. A partial batch is
+ * only flushed once per {@code flush-interval}, so a trickle of bookings
+ * shares sessions while a full batch never waits.
+ *
+ * <p>The dispatcher wakes after every commit that queued notifications and on
+ * a fixed poll, which also picks up retries and rows whose lease expired.
+ */
+@Service
+@Slf4j
+public class NotificationDispatcher {
+
+    private final NotificationService notificationService;
+    private final JavaMailSender mailSender;
+    private final boolean mailEnabled;
+    private final String fromEmail;
+    private final int mailBatchSize;
+    private final long flushIntervalNanos;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+
+    private final Map<NotificationType, Semaphore> permits = new EnumMap<>(NotificationType.class);
+    private final Map<NotificationType, AtomicBoolean> backlog = new EnumMap<>(NotificationType.class);
+    private final ScheduledThreadPoolExecutor dispatcher;
+    private final ThreadPoolExecutor workers;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean wakeRequested = new AtomicBoolean();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private volatile long lastEmailFlush;
+
+    public NotificationDispatcher(
+            NotificationService notificationService,
+            JavaMailSender mailSender,
+            @Value("${app.mail.enabled:false}") boolean mailEnabled,
+            @Value("${app.mail.from:noreply@portfolio.com}") String fromEmail,
+            @Value("${app.notifications.dispatch.email-concurrency:4}") int emailConcurrency,
+            @Value("${app.notifications.dispatch.whatsapp-concurrency:2}") int whatsAppConcurrency,
+            @Value("${app.notifications.mail.batch-size:50}") int mailBatchSize,
+            @Value("${app.notifications.mail.flush-interval:2s}") Duration flushInterval,
+            @Value("${app.notifications.dispatch.max-attempts:6}") int maxAttempts,
+            @Value("${app.notifications.dispatch.lease:5m}") Duration lease,
+            @Value("${app.notifications.dispatch.initial-backoff:30s}") Duration initialBackoff,
+            @Value("${app.notifications.dispatch.max-backoff:1h}") Duration maxBackoff) {
+        this.notificationService = notificationService;
+        this.mailSender = mailSender;
+        this.mailEnabled = mailEnabled;
+        this.fromEmail = fromEmail;
+        this.mailBatchSize = mailBatchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.lastEmailFlush = System.nanoTime() - flushIntervalNanos;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.initialBackoffMs = initialBackoff.toMillis();
+        this.maxBackoffMs = maxBackoff.toMillis();
+
+        permits.put(NotificationType.EMAIL, new Semaphore(emailConcurrency));
+        permits.put(NotificationType.WHATSAPP, new Semaphore(whatsAppConcurrency));
+        for (NotificationType type : NotificationType.values()) {
+            backlog.put(type, new AtomicBoolean());
+        }
+
+        // Workers never outnumber permits, so the queue only absorbs hand-off jitter
+        int poolSize = emailConcurrency + whatsAppConcurrency;
+        this.workers = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(poolSize), new CustomizableThreadFactory("notification-"));
+        this.dispatcher = new ScheduledThreadPoolExecutor(1, new CustomizableThreadFactory("notification-dispatch-"));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationQueued(NotificationQueuedEvent event) {
+        wakeUp();
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.dispatch.poll-interval-ms:5000}")
+    public void poll() {
+        wakeUp();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        dispatcher.shutdownNow();
+        workers.shutdown();
+        // Anything still unsent keeps its lease and is retried after a restart
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+    }
+
+    private void wakeUp() {
+        wakeRequested.set(true);
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            dispatcher.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            draining.set(false);
+        }
+    }
+
+    private void drain() {
+        try {
+            while (wakeRequested.getAndSet(false)) {
+                for (NotificationType type : NotificationType.values()) {
+                    dispatch(type);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Notification dispatch failed: {}", e.getMessage());
+        } finally {
+            draining.set(false);
+        }
+
+        // A wake-up that arrived after the last pass but before the flag was cleared
+        if (wakeRequested.get()) {
+            wakeUp();
+        }
+    }
+
+    private void dispatch(NotificationType type) {
+        Semaphore channel = permits.get(type);
+        // Only this thread acquires, so the permits seen here stay available
+        int deliveries = channel.availablePermits();
+        if (deliveries == 0) {
+            return;
+        }
+
+        int perDelivery = 1;
+        if (type == NotificationType.EMAIL) {
+            long wait = lastEmailFlush + flushIntervalNanos - System.nanoTime();
+            if (wait > 0 && !backlog.get(type).get()) {
+                scheduleFlush(wait);
+                return;
+            }
+            perDelivery = mailBatchSize;
+        }
+
+        int limit = deliveries * perDelivery;
+        List<NotificationLog> due = notificationService.claimDue(type, limit, lease);
+        backlog.get(type).set(due.size() == limit);
+        if (due.isEmpty()) {
+            return;
+        }
+        if (type == NotificationType.EMAIL) {
+            lastEmailFlush = System.nanoTime();
+        }
+
+        for (int from = 0; from < due.size(); from += perDelivery) {
+            List<NotificationLog> batch = due.subList(from, Math.min(from + perDelivery, due.size()));
+            channel.acquireUninterruptibly();
+            try {
+                workers.execute(() -> deliver(type, batch, channel));
+            } catch (RejectedExecutionException e) {
+                // Shutting down; the lease hands the rows to the next dispatcher
+                channel.release();
+                return;
+            }
+        }
+    }
+
+    private void scheduleFlush(long delayNanos) {
+        if (!flushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            dispatcher.schedule(() -> {
+                flushScheduled.set(false);
+                wakeUp();
+            }, delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            flushScheduled.set(false);
+        }
+    }
+
+    private void deliver(NotificationType type, List<NotificationLog> batch, Semaphore channel) {
+        try {
+            Map<UUID, Exception> failures = type == NotificationType.EMAIL
+                    ? sendEmails(batch)
+                    : sendWhatsApp(batch);
+
+            List<UUID> sent = new ArrayList<>(batch.size());
+            for (NotificationLog notification : batch) {
+                Exception failure = failures.get(notification.getId());
+                if (failure == null) {
+                    sent.add(notification.getId());
+                } else {
+                    recordFailure(notification, failure);
+                }
+            }
+            if (!sent.isEmpty()) {
+                notificationService.markSent(sent);
+            }
+            log.info("Sent {} of {} {} notifications", sent.size(), batch.size(), type);
+        } catch (RuntimeException e) {
+            // Delivered or not, the rows keep their lease and are retried when it expires
+            log.error("Failed to record {} delivery results: {}", type, e.getMessage());
+        } finally {
+            channel.release();
+            // More rows were due than the channel could take; claim the next ones
+            if (backlog.get(type).get()) {
+                wakeUp();
+            }
+        }
+    }
+
+    /**
+     * Sends the batch over one SMTP session and returns the failures by
+     * notification id; messages not in the map were accepted by the server.
+     */
+    private Map<UUID, Exception> sendEmails(List<NotificationLog> batch) {
+        Map<UUID, Exception> failures = new HashMap<>();
+        if (!mailEnabled) {
+            batch.forEach(notification -> log.info("[Mock Email] To: {}, Subject: {}, Body: {}",
+                    notification.getDestination(), notification.getSubject(), notification.getPayload()));
+            return failures;
+        }
+
+        Map<MimeMessage, UUID> messages = new IdentityHashMap<>();
+        for (NotificationLog notification : batch) {
+            try {
+                messages.put(toMimeMessage(notification), notification.getId());
+            } catch (MessagingException e) {
+                failures.put(notification.getId(), e);
+            }
+        }
+        if (messages.isEmpty()) {
+            return failures;
+        }
+
+        try {
+            mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                messages.values().forEach(id -> failures.put(id, e));
+            }
+            e.getFailedMessages().forEach((message, cause) -> failures.put(messages.get(message), cause));
+        } catch (MailException e) {
+            // Connection or authentication failure: nothing in the batch went out
+            messages.values().forEach(id -> failures.put(id, e));
+        }
+        return failures;
+    }
+
+    private MimeMessage toMimeMessage(NotificationLog notification) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+        helper.setFrom(fromEmail);
+        helper.setTo(notification.getDestination());
+        helper.setSubject(notification.getSubject());
+        helper.setText(notification.getPayload());
+        return message;
+    }
+
+    private Map<UUID, Exception> sendWhatsApp(List<NotificationLog> batch) {
+        // Simulate WhatsApp - just log the message
+        batch.forEach(notification -> log.info("[Mock WhatsApp] To: {}, Message: {}",
+                notification.getDestination(), notification.getPayload()));
+        return Map.of();
+    }
+
+    private void recordFailure(NotificationLog notification, Exception e) {
+        int attempts = notification.getAttempts();
+        LocalDateTime retryAt = attempts < maxAttempts
+                ? LocalDateTime.now().plus(Duration.ofMillis(backoffMs(attempts)))
+                : null;
+        if (retryAt != null) {
+            log.warn("Failed to send {} to {} (attempt {}/{}), retrying at {}: {}", notification.getType(),
+                    notification.getDestination(), attempts, maxAttempts, retryAt, e.getMessage());
+        } else {
+            log.error("Giving up on {} to {} after {} attempts: {}", notification.getType(),
+                    notification.getDestination(), attempts, e.getMessage());
+        }
+
+        try {
+            notificationService.markFailed(notification.getId(), e.getMessage(), retryAt);
+        } catch (RuntimeException ex) {
+            log.error("Failed to record notification {} failure: {}", notification.getId(), ex.getMessage());
+        }
+    }
+
+    /**
+     * Doubles from the initial backoff per attempt up to the cap, then picks a
+     * point in the upper half so failures from one outage do not retry in step.
+     */
+    private long backoffMs(int attempts) {
+        long backoff = initialBackoffMs << Math.min(attempts - 1, 20);
+        if (backoff <= 0 || backoff > maxBackoffMs) {
+            backoff = maxBackoffMs;
+        }
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+}
@@ -0,0 +1,110 @@
+package com.portfolio.service;
+
+import com.portfolio.model.NotificationLog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Collects the notification log rows written in a transaction and inserts
+ * them as JDBC batches just before it commits, or as soon as a batch fills
+ * up. With {@code reWriteBatchedInserts} the driver sends each batch as one
+ * multi-row INSERT, so a reminder run costs a round trip per batch instead
+ * of one per message. Rows still commit or roll back with the caller.
+ */
+@Component
+public class NotificationLogWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO notification_log "
+            + "(id, user_id, type, destination, subject, payload, status, attempts, next_attempt_at, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public NotificationLogWriter(
+            JdbcTemplate jdbcTemplate,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Buffers the row in the current transaction; id and created_at are
+     * assigned here since no persistence context sees the row.
+     */
+    public void write(NotificationLog notification) {
+        if (notification.getId() == null) {
+            notification.setId(UUID.randomUUID());
+        }
+        if (notification.getCreatedAt() == null) {
+            notification.setCreatedAt(LocalDateTime.now());
+        }
+
+        Buffer buffer = currentBuffer();
+        buffer.rows.add(notification);
+        if (buffer.rows.size() >= batchSize) {
+            buffer.insertPending();
+        }
+    }
+
+    public void insertAll(List<NotificationLog> notifications) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, notifications, batchSize, (ps, notification) -> {
+            ps.setObject(1, notification.getId());
+            ps.setObject(2, notification.getUser() != null ? notification.getUser().getId() : null, Types.OTHER);
+            ps.setString(3, notification.getType().name());
+            ps.setString(4, notification.getDestination());
+            ps.setString(5, notification.getSubject());
+            ps.setString(6, notification.getPayload());
+            ps.setString(7, notification.getStatus().name());
+            ps.setInt(8, notification.getAttempts());
+            ps.setTimestamp(9, toTimestamp(notification.getNextAttemptAt()));
+            ps.setTimestamp(10, toTimestamp(notification.getCreatedAt()));
+        });
+    }
+
+    private Buffer currentBuffer() {
+        Buffer buffer = (Buffer) TransactionSynchronizationManager.getResource(this);
+        if (buffer == null) {
+            buffer = new Buffer();
+            TransactionSynchronizationManager.registerSynchronization(buffer);
+            TransactionSynchronizationManager.bindResource(this, buffer);
+        }
+        return buffer;
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
+    }
+
+    private final class Buffer implements TransactionSynchronization {
+
+        private final List<NotificationLog> rows = new ArrayList<>();
+
+        void insertPending() {
+            if (!rows.isEmpty()) {
+                insertAll(rows);
+                rows.clear();
+            }
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            insertPending();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResource(NotificationLogWriter.this);
+        }
+    }
+}
@@ -1,17 +1,25 @@
 package com.portfolio.service;
 
+import com.portfolio.event.NotificationQueuedEvent;
 import com.portfolio.model.*;
 import com.portfolio.repository.NotificationLogRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Notifications are written to {@code notification_log} as PENDING inside the
+ * caller's transaction and delivered after commit by
+ * {@link NotificationDispatcher}, so no request waits on a mail server.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -19,13 +27,8 @@ import java.time.LocalDateTime;
 public class NotificationService {
 
     private final NotificationLogRepository notificationLogRepository;
-    private final JavaMailSender mailSender;
-
-    @Value("${app.mail.enabled:false}")
-    private boolean mailEnabled;
-
-    @Value("${app.mail.from:noreply@portfolio.com}")
-    private String fromEmail;
+    private final NotificationLogWriter notificationLogWriter;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void sendAdvisoryRequestNotification(User programmer, User external, Advisory advisory) {
         String subject = "Nueva solicitud de asesoría";
@@ -67,45 +70,64 @@ public class NotificationService {
     public void sendAdvisoryReminderNotification(User user, Advisory advisory, String role) {
         String subject = "Recordatorio de asesoría";
         String payload = String.format(
-                "Tienes una asesoría programada para mañana a las %s.",
-                advisory.getScheduledAt().toLocalTime().toString());
+                "Tienes una asesoría programada para el %s a las %s.",
+                advisory.getScheduledAt().toLocalDate(), advisory.getScheduledAt().toLocalTime());
 
         sendEmail(user, subject, payload);
-        sendWhatsApp(user, "Recordatorio: asesoría mañana a las " + advisory.getScheduledAt().toLocalTime());
+        sendWhatsApp(user, "Recordatorio: asesoría el " + advisory.getScheduledAt().toLocalDate()
+                + " a las " + advisory.getScheduledAt().toLocalTime());
+    }
+
+    /**
+     * Queues both reminders for every advisory in one transaction, so the log
+     * rows go out in a few batched inserts.
+     */
+    public void sendAdvisoryReminders(List<Advisory> advisories) {
+        for (Advisory advisory : advisories) {
+            sendAdvisoryReminderNotification(advisory.getProgrammer(), advisory, "programmer");
+            sendAdvisoryReminderNotification(advisory.getExternal(), advisory, "external");
+        }
+    }
+
+    // ============ OUTBOX ============
+
+    /**
+     * Locks up to {@code limit} due notifications of one channel, counts the
+     * attempt and leases them until {@code lease} from now. A dispatcher that
+     * dies mid-delivery leaves the rows to be picked up again once it expires.
+     */
+    public List<NotificationLog> claimDue(NotificationType type, int limit, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationLog> due = notificationLogRepository.findDueForUpdate(type, now, PageRequest.of(0, limit));
+        for (NotificationLog notification : due) {
+            notification.setAttempts(notification.getAttempts() + 1);
+            notification.setNextAttemptAt(now.plus(lease));
+        }
+        return due;
+    }
+
+    public void markSent(List<UUID> notificationIds) {
+        notificationLogRepository.markSent(notificationIds, LocalDateTime.now());
+    }
+
+    /**
+     * Records a failed attempt; the notification is retried at
+     * {@code retryAt}, or given up on as FAILED when it is null.
+     */
+    public void markFailed(UUID notificationId, String errorMessage, LocalDateTime retryAt) {
+        notificationLogRepository.markAttemptFailed(notificationId,
+                retryAt != null ? NotificationStatus.PENDING : NotificationStatus.FAILED,
+                errorMessage, retryAt);
     }
 
     private void sendEmail(User user, String subject, String body) {
-        NotificationLog notificationLog = NotificationLog.builder()
+        enqueue(NotificationLog.builder()
                 .user(user)
                 .type(NotificationType.EMAIL)
                 .destination(user.getEmail())
                 .subject(subject)
                 .payload(body)
-                .status(NotificationStatus.PENDING)
-                .build();
-
-        try {
-            if (mailEnabled) {
-                SimpleMailMessage message = new SimpleMailMessage();
-                message.setFrom(fromEmail);
-                message.setTo(user.getEmail());
-                message.setSubject(subject);
-                message.setText(body);
-                mailSender.send(message);
-                log.info("Email sent to: {}", user.getEmail());
-            } else {
-                log.info("[Mock Email] To: {}, Subject: {}, Body: {}", user.getEmail(), subject, body);
-            }
-
-            notificationLog.setStatus(NotificationStatus.SENT);
-            notificationLog.setSentAt(LocalDateTime.now());
-        } catch (Exception e) {
-            log.error("Failed to send email to {}: {}", user.getEmail(), e.getMessage());
-            notificationLog.setStatus(NotificationStatus.FAILED);
-            notificationLog.setErrorMessage(e.getMessage());
-        }
-
-        notificationLogRepository.save(notificationLog);
+                .build());
     }
 
     private void sendWhatsApp(User user, String message) {
@@ -114,26 +136,18 @@ public class NotificationService {
             return;
         }
 
-        NotificationLog notificationLog = NotificationLog.builder()
+        enqueue(NotificationLog.builder()
                 .user(user)
                 .type(NotificationType.WHATSAPP)
                 .destination(user.getPhone())
                 .payload(message)
-                .status(NotificationStatus.PENDING)
-                .build();
-
-        try {
-            // Simulate WhatsApp - just log the message
-            log.info("[Mock WhatsApp] To: {}, Message: {}", user.getPhone(), message);
-
-            notificationLog.setStatus(NotificationStatus.SENT);
-            notificationLog.setSentAt(LocalDateTime.now());
-        } catch (Exception e) {
-            log.error("Failed to send WhatsApp to {}: {}", user.getPhone(), e.getMessage());
-            notificationLog.setStatus(NotificationStatus.FAILED);
-            notificationLog.setErrorMessage(e.getMessage());
-        }
+                .build());
+    }
 
-        notificationLogRepository.save(notificationLog);
+    private void enqueue(NotificationLog notification) {
+        notification.setStatus(NotificationStatus.PENDING);
+        notification.setNextAttemptAt(LocalDateTime.now());
+        notificationLogWriter.write(notification);
+        eventPublisher.publishEvent(new NotificationQueuedEvent());
     }
 }
@@ -0,0 +1,113 @@
+package com.portfolio.service;
+
+import com.portfolio.dto.DashboardStats;
+import com.portfolio.dto.ProgrammerSearchResponse;
+import com.portfolio.event.ProgrammerChangedEvent;
+import com.portfolio.exception.BadRequestException;
+import com.portfolio.model.Role;
+import com.portfolio.model.User;
+import com.portfolio.repository.ProjectRepository;
+import com.portfolio.repository.UserRepository;
+import com.portfolio.search.ProgrammerIndex;
+import com.portfolio.search.ProgrammerSearchCriteria;
+import com.portfolio.search.ProjectFacts;
+import com.portfolio.search.SearchHits;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Faceted programmer search over {@link ProgrammerIndex}. The index is built
+ * at startup and kept current per programmer from committed
+ * {@link ProgrammerChangedEvent}s; a periodic rebuild picks up changes made on
+ * other instances. A rebuild fills a fresh index and swaps it in. Rebuilds
+ * and updates are serialized, and an update reads its data after any running
+ * rebuild finishes, so a rebuild cannot overwrite a newer change with its older
+ * snapshot.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ProgrammerSearchService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final UserService userService;
+
+    private volatile ProgrammerIndex index = new ProgrammerIndex();
+    private volatile boolean built;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.search.rebuild-interval-ms:300000}",
+            initialDelayString = "${app.search.rebuild-interval-ms:300000}")
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        Map<UUID, List<ProjectFacts>> projects = projectRepository.findProgrammerProjectFacts().stream()
+                .collect(Collectors.groupingBy(ProjectFacts::userId));
+
+        ProgrammerIndex fresh = new ProgrammerIndex();
+        for (User user : userRepository.findByRoleAndIsActiveTrue(Role.PROGRAMMER)) {
+            fresh.put(user.getId(), user.getName(), user.getBio(),
+                    projects.getOrDefault(user.getId(), List.of()));
+        }
+        index = fresh;
+        built = true;
+        log.info("Indexed {} programmers for search in {} ms",
+                fresh.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public synchronized void onProgrammerChanged(ProgrammerChangedEvent event) {
+        if (!built) {
+            return;
+        }
+
+        UUID id = event.programmerId();
+        User user = userRepository.findById(id).orElse(null);
+        if (user == null || user.getRole() != Role.PROGRAMMER || !Boolean.TRUE.equals(user.getIsActive())) {
+            index.remove(id);
+        } else {
+            index.put(id, user.getName(), user.getBio(), projectRepository.findProjectFactsByUserId(id));
+        }
+    }
+
+    public ProgrammerSearchResponse search(ProgrammerSearchCriteria criteria, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("Paginación inválida: page >= 0 y size entre 1 y " + MAX_PAGE_SIZE);
+        }
+        if (!built) {
+            rebuild();
+        }
+
+        SearchHits hits = index.search(criteria);
+        List<UUID> ids = hits.programmerIds();
+        int from = (int) Math.min((long) page * size, ids.size());
+        int to = Math.min(from + size, ids.size());
+
+        return ProgrammerSearchResponse.builder()
+                .content(userService.findAllByIds(ids.subList(from, to)))
+                .page(page)
+                .size(size)
+                .totalElements(ids.size())
+                .totalPages((ids.size() + size - 1) / size)
+                .technologies(hits.technologyCounts().entrySet().stream()
+                        .map(e -> new DashboardStats.TechnologyCount(e.getKey(), e.getValue().longValue()))
+                        .toList())
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.portfolio.service;
 
 import com.portfolio.dto.ProjectRequest;
 import com.portfolio.dto.ProjectResponse;
+import com.portfolio.event.ProgrammerChangedEvent;
 import com.portfolio.exception.ResourceNotFoundException;
 import com.portfolio.model.Project;
 import com.portfolio.model.ProjectStatus;
@@ -10,6 +11,7 @@ import com.portfolio.repository.ProjectRepository;
 import com.portfolio.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
@@ -28,6 +30,8 @@ public class ProjectService {
 
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DashboardRollupService dashboardRollupService;
 
     public Page<ProjectResponse> findByUserId(UUID userId, Pageable pageable) {
         return projectRepository.findByUserId(userId, pageable)
@@ -66,7 +70,9 @@ public class ProjectService {
                 .build();
 
         Project saved = projectRepository.save(project);
+        dashboardRollupService.projectCreated(saved);
         log.info("Created project: {} for user: {}", saved.getTitle(), userId);
+        eventPublisher.publishEvent(new ProgrammerChangedEvent(userId));
         return mapToResponse(saved);
     }
 
@@ -79,6 +85,7 @@ public class ProjectService {
             throw new AccessDeniedException("No tienes permiso para editar este proyecto");
         }
 
+        String[] previousTechnologies = project.getTechnologies();
         project.setTitle(request.getTitle());
         project.setDescription(request.getDescription());
         project.setProjectType(request.getProjectType());
@@ -93,7 +100,9 @@ public class ProjectService {
         }
 
         Project saved = projectRepository.save(project);
+        dashboardRollupService.projectUpdated(saved, previousTechnologies);
         log.info("Updated project: {}", saved.getTitle());
+        eventPublisher.publishEvent(new ProgrammerChangedEvent(userId));
         return mapToResponse(saved);
     }
 
@@ -107,7 +116,9 @@ public class ProjectService {
         }
 
         projectRepository.delete(project);
+        dashboardRollupService.projectDeleted(project);
         log.info("Deleted project: {}", projectId);
+        eventPublisher.publishEvent(new ProgrammerChangedEvent(userId));
     }
 
     private ProjectResponse mapToResponse(Project project) {
@@ -0,0 +1,70 @@
+package com.portfolio.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.cache.CachedJson;
+import com.portfolio.cache.JsonBytesCache;
+import com.portfolio.event.ProgrammerChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Serves anonymous public responses as pre-serialized JSON. Entries are dropped
+ * when a {@link ProgrammerChangedEvent} commits, so the TTLs only bound
+ * staleness for changes made outside the services (manual SQL, other instances).
+ */
+@Service
+@Slf4j
+public class PublicCacheService {
+
+    private final UserService userService;
+    private final JsonBytesCache<UUID> portfolios;
+    private final JsonBytesCache<UUID> programmers;
+    private final JsonBytesCache<String> programmerPages;
+
+    public PublicCacheService(
+            UserService userService,
+            ObjectMapper objectMapper,
+            @Value("${app.cache.portfolio.max-entries:1000}") int maxPortfolios,
+            @Value("${app.cache.portfolio.ttl:10m}") Duration portfolioTtl,
+            @Value("${app.cache.public.max-entries:1000}") int maxResponses,
+            @Value("${app.cache.public.ttl:5m}") Duration responseTtl) {
+        this.userService = userService;
+        this.portfolios = new JsonBytesCache<>(objectMapper, maxPortfolios, portfolioTtl);
+        this.programmers = new JsonBytesCache<>(objectMapper, maxResponses, responseTtl);
+        this.programmerPages = new JsonBytesCache<>(objectMapper, maxResponses, responseTtl);
+    }
+
+    public CachedJson getPortfolio(UUID programmerId) {
+        return portfolios.get(programmerId, () -> userService.getPortfolio(programmerId));
+    }
+
+    public CachedJson getProgrammer(UUID id) {
+        return programmers.get(id, () -> userService.findById(id));
+    }
+
+    public CachedJson listProgrammers(Pageable pageable) {
+        return programmerPages.get(pageKey(pageable), () -> userService.findProgrammers(pageable));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProgrammerChanged(ProgrammerChangedEvent event) {
+        log.debug("Evicting cached public responses for {}", event.programmerId());
+        portfolios.invalidate(event.programmerId());
+        programmers.invalidate(event.programmerId());
+        // Any change can move a programmer between pages or alter a listed card
+        programmerPages.invalidateAll();
+    }
+
+    private static String pageKey(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return "unpaged|" + pageable.getSort();
+        }
+        return pageable.getPageNumber() + "|" + pageable.getPageSize() + "|" + pageable.getSort();
+    }
+}
@@ -0,0 +1,158 @@
+package com.portfolio.service;
+
+import com.portfolio.exception.TooManyRequestsException;
+import com.portfolio.report.ReportBundle;
+import com.portfolio.report.ReportFormat;
+import com.portfolio.report.ReportSpec;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Renders several admin reports as one ZIP. Reports that differ only in format
+ * share a render: the dataset is queried once in its own read-only transaction
+ * and each row is streamed into one spool file per format, so memory does not
+ * grow with the data. Datasets render concurrently on a bounded pool. Every
+ * render is queued before the response starts, so a full pool is reported as
+ * an error instead of a truncated archive.
+ */
+@Service
+@Slf4j
+public class ReportBundleService {
+
+    private static final String SPOOL_PREFIX = "bundle-";
+    // Suggested wait before resubmitting when the queue is full
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(30);
+
+    private final ReportService reportService;
+    private final ThreadPoolExecutor executor;
+    private final Path spoolDir;
+
+    public ReportBundleService(
+            ReportService reportService,
+            @Value("${app.reports.bundle.pool-size:4}") int poolSize,
+            @Value("${app.reports.bundle.queue-capacity:32}") int queueCapacity,
+            @Value("${app.reports.jobs.spool-dir:${java.io.tmpdir}/portfolio-reports}") String spoolDir)
+            throws IOException {
+        this.reportService = reportService;
+        this.spoolDir = Files.createDirectories(Paths.get(spoolDir));
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("report-bundle-"));
+
+        deleteOrphanedSpoolFiles();
+    }
+
+    public ReportBundle submit(List<ReportSpec> specs) {
+        Map<ReportSpec, List<ReportSpec>> byDataset = specs.stream().distinct()
+                .collect(Collectors.groupingBy(ReportSpec::dataset, LinkedHashMap::new, Collectors.toList()));
+
+        List<CompletableFuture<List<ReportBundle.Entry>>> renders = new ArrayList<>();
+        try {
+            for (List<ReportSpec> formats : byDataset.values()) {
+                renders.add(CompletableFuture.supplyAsync(() -> render(formats), executor));
+            }
+        } catch (RejectedExecutionException e) {
+            new ReportBundle(renders).discard();
+            throw new TooManyRequestsException("Hay demasiados reportes en proceso, intente más tarde", RETRY_AFTER);
+        }
+
+        log.info("Rendering report bundle with {} entries from {} datasets", specs.size(), renders.size());
+        return new ReportBundle(renders);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private List<ReportBundle.Entry> render(List<ReportSpec> formats) {
+        List<ReportBundle.Entry> entries = new ArrayList<>();
+        Map<ReportFormat, OutputStream> outs = new EnumMap<>(ReportFormat.class);
+        try {
+            try {
+                for (ReportSpec spec : formats) {
+                    Path file = Files.createTempFile(spoolDir, SPOOL_PREFIX, "." + spec.format().getExtension());
+                    entries.add(new ReportBundle.Entry(spec.fileName(), file));
+                    outs.put(spec.format(), new BufferedOutputStream(Files.newOutputStream(file)));
+                }
+                reportService.writeReports(formats.get(0), outs);
+            } finally {
+                closeAll(outs.values());
+            }
+            return entries;
+        } catch (IOException e) {
+            log.error("Bundle entries {} failed: {}", fileNames(formats), e.getMessage());
+            entries.forEach(entry -> deleteQuietly(entry.file()));
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            log.error("Bundle entries {} failed: {}", fileNames(formats), e.getMessage());
+            entries.forEach(entry -> deleteQuietly(entry.file()));
+            throw e;
+        }
+    }
+
+    private static void closeAll(Collection<OutputStream> outs) throws IOException {
+        IOException failure = null;
+        for (OutputStream out : outs) {
+            try {
+                out.close();
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static List<String> fileNames(List<ReportSpec> formats) {
+        return formats.stream().map(ReportSpec::fileName).toList();
+    }
+
+    private void deleteOrphanedSpoolFiles() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(spoolDir, SPOOL_PREFIX + "*")) {
+            for (Path file : files) {
+                deleteQuietly(file);
+            }
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete bundle spool file {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.portfolio.service;
+
+import com.portfolio.report.CapturingOutputStream;
+import com.portfolio.report.DataVersion;
+import com.portfolio.report.ReportCache;
+import com.portfolio.report.ReportSpec;
+import com.portfolio.report.ReportType;
+import com.portfolio.repository.AdvisoryRepository;
+import com.portfolio.repository.ProjectRepository;
+import com.portfolio.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Caches rendered admin reports under a key derived from the normalized spec and
+ * the data version of the tables the report reads. The key doubles as a strong
+ * ETag: computing it costs two aggregate queries and never touches report rows.
+ */
+@Service
+@Slf4j
+public class ReportCacheService {
+
+    // Bump when report layouts change so old entries stop matching
+    private static final int RENDER_VERSION = 1;
+    private static final long MB = 1024L * 1024L;
+
+    private final ReportService reportService;
+    private final AdvisoryRepository advisoryRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final ReportCache cache;
+    private final int maxEntryBytes;
+
+    public ReportCacheService(
+            ReportService reportService,
+            AdvisoryRepository advisoryRepository,
+            ProjectRepository projectRepository,
+            UserRepository userRepository,
+            @Value("${app.reports.cache.max-memory-mb:64}") long maxMemoryMb,
+            @Value("${app.reports.cache.max-entry-mb:8}") int maxEntryMb,
+            @Value("${app.reports.cache.disk-dir:}") String diskDir,
+            @Value("${app.reports.cache.max-disk-mb:512}") long maxDiskMb) throws IOException {
+        this.reportService = reportService;
+        this.advisoryRepository = advisoryRepository;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.maxEntryBytes = (int) Math.min(Integer.MAX_VALUE - 8, maxEntryMb * MB);
+        this.cache = new ReportCache(maxMemoryMb * MB, prepareDiskDir(diskDir), maxDiskMb * MB);
+    }
+
+    @Transactional(readOnly = true)
+    public String computeKey(ReportSpec spec) {
+        DataVersion rows = spec.type() == ReportType.ADVISORIES
+                ? advisoryRepository.findDataVersion()
+                : projectRepository.findDataVersion();
+        DataVersion users = userRepository.findDataVersion();
+
+        return sha256(RENDER_VERSION + "|" + spec + "|" + rows + "|" + users);
+    }
+
+    public void write(ReportSpec spec, String key, OutputStream out) throws IOException {
+        byte[] cached = cache.get(key);
+        if (cached != null) {
+            log.debug("Serving cached report {}", key);
+            out.write(cached);
+            return;
+        }
+
+        CapturingOutputStream capturing = new CapturingOutputStream(out, maxEntryBytes);
+        reportService.writeReport(spec, capturing);
+        capturing.flush();
+
+        byte[] rendered = capturing.getCaptured();
+        if (rendered != null) {
+            cache.put(key, rendered);
+        }
+    }
+
+    private static Path prepareDiskDir(String diskDir) throws IOException {
+        if (diskDir == null || diskDir.isBlank()) {
+            return null;
+        }
+
+        Path dir = Files.createDirectories(Paths.get(diskDir));
+        // The index is in memory only, so files from a previous run are unreachable
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.bin")) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+        return dir;
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.portfolio.service;
+
+import com.portfolio.dto.ReportJobResponse;
+import com.portfolio.exception.BadRequestException;
+import com.portfolio.exception.TooManyRequestsException;
+import com.portfolio.exception.ResourceNotFoundException;
+import com.portfolio.report.ReportJob;
+import com.portfolio.report.ReportJobStatus;
+import com.portfolio.report.ReportSpec;
+import com.portfolio.scheduler.ClusterLeases;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs admin reports off the request thread. Jobs execute on a bounded pool,
+ * spool their output to local files and are purged once they have not been
+ * polled or downloaded for their TTL; a download in progress is never purged.
+ * A spec that is already queued or running is attached to the existing job
+ * instead of being rendered twice.
+ *
+ * <p>Job state and spool files stay on the node that accepted the job, so
+ * behind several instances the job endpoints need node affinity: responses
+ * name the node, and submitting sets the {@value #NODE_COOKIE} cookie for the
+ * load balancer to route on. Any other node answers 404 for the job.
+ */
+@Service
+@Slf4j
+public class ReportJobService {
+
+    public static final String NODE_COOKIE = "REPORT_NODE";
+
+    private static final String SPOOL_PREFIX = "report-";
+    // Suggested wait before resubmitting when the queue is full
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(30);
+
+    private final ReportService reportService;
+    private final String node;
+    private final ThreadPoolExecutor executor;
+    private final Path spoolDir;
+    private final long ttlMinutes;
+
+    private final Map<UUID, ReportJob> jobs = new ConcurrentHashMap<>();
+    private final Map<ReportSpec, ReportJob> activeJobs = new ConcurrentHashMap<>();
+
+    public ReportJobService(
+            ReportService reportService,
+            ClusterLeases clusterLeases,
+            @Value("${app.reports.jobs.pool-size:2}") int poolSize,
+            @Value("${app.reports.jobs.queue-capacity:20}") int queueCapacity,
+            @Value("${app.reports.jobs.spool-dir:${java.io.tmpdir}/portfolio-reports}") String spoolDir,
+            @Value("${app.reports.jobs.ttl-minutes:30}") long ttlMinutes) throws IOException {
+        this.reportService = reportService;
+        this.node = clusterLeases.getOwner();
+        this.ttlMinutes = ttlMinutes;
+        this.spoolDir = Files.createDirectories(Paths.get(spoolDir));
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("report-job-"));
+
+        deleteOrphanedSpoolFiles();
+    }
+
+    public ReportJobResponse submit(ReportSpec spec) {
+        ReportJob candidate = new ReportJob(spec);
+        ReportJob job = activeJobs.putIfAbsent(spec, candidate);
+        if (job != null) {
+            log.info("Report spec already in progress, reusing job {}", job.getId());
+            return mapToResponse(job);
+        }
+
+        jobs.put(candidate.getId(), candidate);
+        try {
+            executor.execute(() -> run(candidate));
+        } catch (RejectedExecutionException e) {
+            activeJobs.remove(spec, candidate);
+            jobs.remove(candidate.getId());
+            throw new TooManyRequestsException("Hay demasiados reportes en proceso, intente más tarde", RETRY_AFTER);
+        }
+
+        log.info("Queued report job {} ({} {})", candidate.getId(), spec.type(), spec.format());
+        return mapToResponse(candidate);
+    }
+
+    public ReportJobResponse getStatus(UUID jobId) {
+        return mapToResponse(findJob(jobId));
+    }
+
+    /**
+     * Copies a completed job's file to {@code out}, holding a lease on it so
+     * the purge cannot delete it midway.
+     */
+    public void download(ReportJob job, OutputStream out) throws IOException {
+        if (!job.acquireDownload()) {
+            throw new ResourceNotFoundException("Reporte", "id", job.getId());
+        }
+        try {
+            Files.copy(job.getFile(), out);
+        } finally {
+            job.releaseDownload();
+        }
+    }
+
+    public ReportJob getCompletedJob(UUID jobId) {
+        ReportJob job = findJob(jobId);
+        if (job.getStatus() == ReportJobStatus.FAILED) {
+            throw new BadRequestException("El reporte falló: " + job.getErrorMessage());
+        }
+        if (job.getStatus() != ReportJobStatus.COMPLETED) {
+            throw new BadRequestException("El reporte aún no está listo");
+        }
+        return job;
+    }
+
+    @Scheduled(fixedDelayString = "${app.reports.jobs.cleanup-interval-ms:60000}")
+    public void purgeExpiredJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(ttlMinutes);
+        jobs.values().removeIf(job -> {
+            if (!job.tryPurge(cutoff)) {
+                return false;
+            }
+            deleteQuietly(job.getFile());
+            log.debug("Purged expired report job {}", job.getId());
+            return true;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(ReportJob job) {
+        ReportSpec spec = job.getSpec();
+        Path file = null;
+        job.markRunning();
+        try {
+            file = Files.createTempFile(spoolDir, SPOOL_PREFIX, "." + spec.format().getExtension());
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+                reportService.writeReport(spec, out);
+            }
+            job.markCompleted(file, Files.size(file));
+            log.info("Completed report job {} ({} bytes)", job.getId(), job.getSizeBytes());
+        } catch (Exception e) {
+            log.error("Report job {} failed: {}", job.getId(), e.getMessage());
+            deleteQuietly(file);
+            job.markFailed(e.getMessage());
+        } finally {
+            activeJobs.remove(spec, job);
+        }
+    }
+
+    private ReportJob findJob(UUID jobId) {
+        ReportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Reporte", "id", jobId);
+        }
+        job.touch();
+        return job;
+    }
+
+    private void deleteOrphanedSpoolFiles() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(spoolDir, SPOOL_PREFIX + "*")) {
+            for (Path file : files) {
+                deleteQuietly(file);
+            }
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete spooled report {}: {}", file, e.getMessage());
+        }
+    }
+
+    private ReportJobResponse mapToResponse(ReportJob job) {
+        boolean completed = job.getStatus() == ReportJobStatus.COMPLETED;
+        return ReportJobResponse.builder()
+                .id(job.getId())
+                .type(job.getSpec().type())
+                .format(job.getSpec().format())
+                .status(job.getStatus())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getCompletedAt())
+                .sizeBytes(completed ? job.getSizeBytes() : null)
+                .errorMessage(job.getErrorMessage())
+                .downloadUrl(completed ? "/api/admin/reports/jobs/" + job.getId() + "/download" : null)
+                .node(node)
+                .build();
+    }
+}
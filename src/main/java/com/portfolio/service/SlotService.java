@@ -0,0 +1,232 @@
+package com.portfolio.service;
+
+import com.portfolio.dto.SlotResponse;
+import com.portfolio.event.ProgrammerChangedEvent;
+import com.portfolio.event.ScheduleChangedEvent;
+import com.portfolio.exception.BadRequestException;
+import com.portfolio.exception.ResourceNotFoundException;
+import com.portfolio.model.Role;
+import com.portfolio.model.User;
+import com.portfolio.repository.AdvisoryRepository;
+import com.portfolio.repository.AvailabilityRepository;
+import com.portfolio.repository.UserRepository;
+import com.portfolio.slots.ProgrammerSlots;
+import com.portfolio.slots.StripedLocks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Answers availability and conflict checks from per-programmer
+ * {@link ProgrammerSlots}. A programmer's slots are loaded on first use and
+ * dropped when their availability or advisories change; the TTL bounds how
+ * long changes made by other instances can go unseen. The cache keeps the most
+ * recently used programmers up to a fixed count, and a change only discards
+ * loads in flight for programmers sharing its generation stripe.
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class SlotService {
+
+    private static final int DEFAULT_RANGE_DAYS = 7;
+    private static final int MAX_RANGE_DAYS = 31;
+    private static final int GENERATION_STRIPES = 64;
+
+    private final UserRepository userRepository;
+    private final AvailabilityRepository availabilityRepository;
+    private final AdvisoryRepository advisoryRepository;
+    private final long ttlNanos;
+    private final StripedLocks bookingLocks;
+    private final long bookingLockTimeoutMs;
+
+    private final Map<UUID, Cached> schedules;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public SlotService(
+            UserRepository userRepository,
+            AvailabilityRepository availabilityRepository,
+            AdvisoryRepository advisoryRepository,
+            @Value("${app.slots.ttl:60s}") Duration ttl,
+            @Value("${app.slots.max-programmers:1000}") int maxProgrammers,
+            @Value("${app.slots.booking-lock-stripes:64}") int bookingLockStripes,
+            @Value("${app.slots.booking-lock-timeout:5s}") Duration bookingLockTimeout) {
+        this.userRepository = userRepository;
+        this.availabilityRepository = availabilityRepository;
+        this.advisoryRepository = advisoryRepository;
+        this.ttlNanos = ttl.toNanos();
+        this.schedules = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Cached> eldest) {
+                return size() > maxProgrammers;
+            }
+        });
+        this.bookingLocks = new StripedLocks(bookingLockStripes);
+        this.bookingLockTimeoutMs = bookingLockTimeout.toMillis();
+    }
+
+    /**
+     * Throws unless {@code scheduledAt} starts a slot that is inside the
+     * programmer's availability and not held by another advisory.
+     */
+    public void validateBookable(UUID programmerId, LocalDateTime scheduledAt) {
+        int slot = ProgrammerSlots.slotAt(scheduledAt.toLocalTime());
+        if (slot < 0) {
+            throw new BadRequestException("La asesoría debe comenzar al inicio de un bloque de "
+                    + ProgrammerSlots.SLOT_MINUTES + " minutos");
+        }
+
+        ProgrammerSlots slots = slotsFor(programmerId);
+        LocalDate date = scheduledAt.toLocalDate();
+        if (!slots.isAvailable(date, slot)) {
+            throw new BadRequestException("El programador no está disponible en ese horario");
+        }
+        if (slots.isBooked(date, slot)) {
+            throw new BadRequestException("Ya existe una asesoría programada en ese horario");
+        }
+    }
+
+    /**
+     * Serializes bookings for the programmer in this instance until the current
+     * transaction completes, then re-checks the slot against the database, which
+     * now reflects every booking that held the lock before. Bookings from other
+     * instances are left to the exclusion constraint on {@code advisories}.
+     */
+    public void lockForBooking(UUID programmerId, LocalDateTime scheduledAt) {
+        ReentrantLock lock = bookingLocks.get(programmerId);
+        try {
+            if (!lock.tryLock(bookingLockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new BadRequestException("El horario está siendo reservado, intenta nuevamente");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BadRequestException("El horario está siendo reservado, intenta nuevamente");
+        }
+
+        try {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    lock.unlock();
+                }
+            });
+        } catch (RuntimeException e) {
+            lock.unlock();
+            throw e;
+        }
+
+        if (advisoryRepository.existsActiveBetween(programmerId,
+                scheduledAt.minusMinutes(ProgrammerSlots.SLOT_MINUTES),
+                scheduledAt.plusMinutes(ProgrammerSlots.SLOT_MINUTES))) {
+            throw new BadRequestException("Ya existe una asesoría programada en ese horario");
+        }
+    }
+
+    /**
+     * Free slots from {@code from} to {@code to}, both inclusive, skipping any
+     * that have already started. Defaults to the week starting today.
+     */
+    public List<SlotResponse> findFreeSlots(UUID programmerId, LocalDate from, LocalDate to) {
+        if (from == null) {
+            from = LocalDate.now();
+        }
+        if (to == null) {
+            to = from.plusDays(DEFAULT_RANGE_DAYS - 1);
+        }
+        if (to.isBefore(from)) {
+            throw new BadRequestException("La fecha final debe ser posterior a la inicial");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new BadRequestException("El rango máximo es de " + MAX_RANGE_DAYS + " días");
+        }
+
+        ProgrammerSlots slots = slotsFor(programmerId);
+        LocalDateTime now = LocalDateTime.now();
+        List<SlotResponse> free = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            long mask = slots.freeMask(date);
+            while (mask != 0) {
+                int slot = Long.numberOfTrailingZeros(mask);
+                mask &= mask - 1;
+
+                LocalDateTime start = date.atTime(ProgrammerSlots.startOf(slot));
+                if (start.isAfter(now)) {
+                    free.add(SlotResponse.builder()
+                            .start(start)
+                            .end(start.plusMinutes(ProgrammerSlots.SLOT_MINUTES))
+                            .build());
+                }
+            }
+        }
+        return free;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProgrammerChanged(ProgrammerChangedEvent event) {
+        evict(event.programmerId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        evict(event.programmerId());
+    }
+
+    private void evict(UUID programmerId) {
+        generations.incrementAndGet(generationStripe(programmerId));
+        schedules.remove(programmerId);
+    }
+
+    private static int generationStripe(UUID programmerId) {
+        int hash = programmerId.hashCode();
+        return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    private ProgrammerSlots slotsFor(UUID programmerId) {
+        Cached cached = schedules.get(programmerId);
+        if (cached != null && System.nanoTime() - cached.expiresAt() < 0) {
+            return cached.slots();
+        }
+
+        int stripe = generationStripe(programmerId);
+        long loadGeneration = generations.get(stripe);
+        User programmer = userRepository.findById(programmerId)
+                .filter(user -> user.getRole() == Role.PROGRAMMER)
+                .orElseThrow(() -> new ResourceNotFoundException("Programador", "id", programmerId));
+
+        // Advisories that started yesterday may still spill into today's first slot
+        LocalDateTime horizon = LocalDate.now().minusDays(1).atStartOfDay();
+        ProgrammerSlots slots = ProgrammerSlots.of(
+                availabilityRepository.findByUserIdAndIsActiveTrue(programmer.getId()),
+                advisoryRepository.findActiveScheduleTimes(programmer.getId(), horizon));
+
+        // A change that committed while loading may not be in what was read. Checking under
+        // the map's lock keeps an eviction from landing between the check and the put
+        synchronized (schedules) {
+            if (generations.get(stripe) == loadGeneration) {
+                schedules.put(programmerId, new Cached(slots, System.nanoTime() + ttlNanos));
+            }
+        }
+        return slots;
+    }
+
+    private record Cached(ProgrammerSlots slots, long expiresAt) {
+    }
+}
@@ -1,19 +1,26 @@
 package com.portfolio.service;
 
 import com.portfolio.dto.*;
+import com.portfolio.event.ProgrammerChangedEvent;
 import com.portfolio.exception.BadRequestException;
 import com.portfolio.exception.ResourceNotFoundException;
 import com.portfolio.model.*;
 import com.portfolio.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
@@ -25,15 +32,26 @@ public class UserService {
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
     private final AvailabilityRepository availabilityRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Keeps IN (...) lists well under the driver's bind parameter limit
+    private static final int BATCH_SIZE = 1000;
 
     public Page<UserResponse> findProgrammers(Pageable pageable) {
-        return userRepository.findByRoleAndIsActiveTrue(Role.PROGRAMMER, pageable)
-                .map(this::mapToResponse);
+        return mapToResponses(userRepository.findByRoleAndIsActiveTrue(Role.PROGRAMMER, pageable));
     }
 
     public Page<UserResponse> findAllUsers(Pageable pageable) {
-        return userRepository.findByIsActiveTrue(pageable)
-                .map(this::mapToResponse);
+        return mapToResponses(userRepository.findByIsActiveTrue(pageable));
+    }
+
+    /**
+     * Loads the given users in the order of {@code ids}, skipping unknown ids.
+     */
+    public List<UserResponse> findAllByIds(List<UUID> ids) {
+        Map<UUID, User> users = new HashMap<>();
+        userRepository.findAllById(ids).forEach(user -> users.put(user.getId(), user));
+        return mapToResponses(ids.stream().map(users::get).filter(Objects::nonNull).toList());
     }
 
     public UserResponse findById(UUID id) {
@@ -82,6 +100,7 @@ public class UserService {
 
         User saved = userRepository.save(user);
         log.info("Created user: {} with role: {}", saved.getEmail(), saved.getRole());
+        eventPublisher.publishEvent(new ProgrammerChangedEvent(saved.getId()));
         return mapToResponse(saved);
     }
 
@@ -100,6 +119,7 @@ public class UserService {
 
         User saved = userRepository.save(user);
         log.info("Updated user: {}", saved.getEmail());
+        eventPublisher.publishEvent(new ProgrammerChangedEvent(saved.getId()));
         return mapToResponse(saved);
     }
 
@@ -109,33 +129,72 @@ public class UserService {
         user.setIsActive(false);
         userRepository.save(user);
         log.info("Deactivated user: {}", user.getEmail());
+        eventPublisher.publishEvent(new ProgrammerChangedEvent(id));
     }
 
     private UserResponse mapToResponse(User user) {
-        long projectCount = projectRepository.countByUserId(user.getId());
-        List<AvailabilityResponse> availabilities = null;
-        
+        return mapToResponses(List.of(user)).get(0);
+    }
+
+    private Page<UserResponse> mapToResponses(Page<User> users) {
+        return new PageImpl<>(mapToResponses(users.getContent()), users.getPageable(), users.getTotalElements());
+    }
+
+    /**
+     * Maps users with a constant number of queries: one grouped project count and
+     * one availability lookup per {@link #BATCH_SIZE} users, instead of two per user.
+     */
+    private List<UserResponse> mapToResponses(List<User> users) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, Long> projectCounts = new HashMap<>();
+        Map<UUID, List<AvailabilityResponse>> availabilities = new HashMap<>();
+        List<UUID> userIds = users.stream().map(User::getId).toList();
         // Incluir disponibilidades solo para programadores
-        if (user.getRole() == Role.PROGRAMMER) {
-            List<Availability> availabilityList = availabilityRepository.findByUserIdAndIsActiveTrue(user.getId());
-            availabilities = availabilityList.stream()
-                    .map(this::mapAvailabilityToResponse)
-                    .toList();
+        List<UUID> programmerIds = users.stream()
+                .filter(user -> user.getRole() == Role.PROGRAMMER)
+                .map(User::getId)
+                .toList();
+
+        for (List<UUID> batch : partition(userIds)) {
+            for (Object[] row : projectRepository.countByUserIds(batch)) {
+                projectCounts.put((UUID) row[0], (Long) row[1]);
+            }
         }
-        
-        return UserResponse.builder()
-                .id(user.getId())
-                .email(user.getEmail())
-                .name(user.getName())
-                .phone(user.getPhone())
-                .bio(user.getBio())
-                .avatarUrl(user.getAvatarUrl())
-                .role(user.getRole())
-                .isActive(user.getIsActive())
-                .createdAt(user.getCreatedAt())
-                .projectCount(projectCount)
-                .availability(availabilities)
-                .build();
+        for (List<UUID> batch : partition(programmerIds)) {
+            for (Availability availability : availabilityRepository.findByUserIdInAndIsActiveTrue(batch)) {
+                availabilities.computeIfAbsent(availability.getUser().getId(), id -> new ArrayList<>())
+                        .add(mapAvailabilityToResponse(availability));
+            }
+        }
+
+        return users.stream()
+                .map(user -> UserResponse.builder()
+                        .id(user.getId())
+                        .email(user.getEmail())
+                        .name(user.getName())
+                        .phone(user.getPhone())
+                        .bio(user.getBio())
+                        .avatarUrl(user.getAvatarUrl())
+                        .role(user.getRole())
+                        .isActive(user.getIsActive())
+                        .createdAt(user.getCreatedAt())
+                        .projectCount(projectCounts.getOrDefault(user.getId(), 0L))
+                        .availability(user.getRole() == Role.PROGRAMMER
+                                ? availabilities.getOrDefault(user.getId(), List.of())
+                                : null)
+                        .build())
+                .toList();
+    }
+
+    private static List<List<UUID>> partition(List<UUID> ids) {
+        List<List<UUID>> batches = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += BATCH_SIZE) {
+            batches.add(ids.subList(i, Math.min(ids.size(), i + BATCH_SIZE)));
+        }
+        return batches;
     }
 
     private ProjectResponse mapProjectToResponse(Project project) {
@@ -165,17 +224,11 @@ public class UserService {
     }
 
     public List<UserResponse> findByRole(Role role) {
-        return userRepository.findByRoleAndIsActiveTrue(role)
-                .stream()
-                .map(this::mapToResponse)
-                .toList();
+        return mapToResponses(userRepository.findByRoleAndIsActiveTrue(role));
     }
 
     public List<UserResponse> findAllActive() {
-        return userRepository.findByIsActiveTrue()
-                .stream()
-                .map(this::mapToResponse)
-                .toList();
+        return mapToResponses(userRepository.findByIsActiveTrue());
     }
 
     public UserResponse findByEmailResponse(String email) {
@@ -199,6 +252,7 @@ public class UserService {
 
         User saved = userRepository.save(user);
         log.info("Updated user by email: {}", saved.getEmail());
+        eventPublisher.publishEvent(new ProgrammerChangedEvent(saved.getId()));
         return mapToResponse(saved);
     }
 
@@ -209,6 +263,7 @@ public class UserService {
         user.setRole(role);
         User saved = userRepository.save(user);
         log.info("Updated role for user: {} to {}", saved.getEmail(), role);
+        eventPublisher.publishEvent(new ProgrammerChangedEvent(saved.getId()));
         return mapToResponse(saved);
     }
 }
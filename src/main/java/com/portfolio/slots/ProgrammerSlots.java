@@ -0,0 +1,113 @@
+package com.portfolio.slots;
+
+import com.portfolio.model.Availability;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable slot view of one programmer's calendar. A day is split into
+ * {@value #SLOTS_PER_DAY} slots of {@value #SLOT_MINUTES} minutes, so each day
+ * fits in a single {@code long} bitset: one mask per weekday for the recurring
+ * availability and one per date for booked advisories. Every slot check is a
+ * shift and a mask.
+ */
+public final class ProgrammerSlots {
+
+    public static final int SLOT_MINUTES = 30;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+
+    private final long[] weekly;
+    private final Map<LocalDate, Long> booked;
+
+    private ProgrammerSlots(long[] weekly, Map<LocalDate, Long> booked) {
+        this.weekly = weekly;
+        this.booked = booked;
+    }
+
+    /**
+     * @param windows  active weekly availability windows; only whole slots inside
+     *                 a window are bookable
+     * @param bookings start times of advisories that hold their slot, each
+     *                 blocking every slot its {@value #SLOT_MINUTES} minutes touch
+     */
+    public static ProgrammerSlots of(Collection<Availability> windows, Collection<LocalDateTime> bookings) {
+        long[] weekly = new long[7];
+        for (Availability window : windows) {
+            int first = ceilSlot(minuteOfDay(window.getStartTime()));
+            int last = minuteOfDay(window.getEndTime()) / SLOT_MINUTES;
+            weekly[window.getDayOfWeek().getValue() - 1] |= range(first, last);
+        }
+
+        Map<LocalDate, Long> booked = new HashMap<>();
+        for (LocalDateTime start : bookings) {
+            int startMinute = minuteOfDay(start.toLocalTime());
+            int first = startMinute / SLOT_MINUTES;
+            int last = ceilSlot(startMinute + SLOT_MINUTES);
+            booked.merge(start.toLocalDate(), range(first, Math.min(last, SLOTS_PER_DAY)), (a, b) -> a | b);
+            if (last > SLOTS_PER_DAY) {
+                // Runs past midnight into the first slots of the next day
+                booked.merge(start.toLocalDate().plusDays(1), range(0, last - SLOTS_PER_DAY), (a, b) -> a | b);
+            }
+        }
+        return new ProgrammerSlots(weekly, booked);
+    }
+
+    public boolean isAvailable(LocalDate date, int slot) {
+        return (weekly(date.getDayOfWeek()) >>> slot & 1L) != 0;
+    }
+
+    public boolean isBooked(LocalDate date, int slot) {
+        return (booked.getOrDefault(date, 0L) >>> slot & 1L) != 0;
+    }
+
+    /**
+     * Slots of {@code date} that are inside availability and not booked.
+     */
+    public long freeMask(LocalDate date) {
+        return weekly(date.getDayOfWeek()) & ~booked.getOrDefault(date, 0L);
+    }
+
+    /**
+     * Slot index for a time that starts exactly on a slot boundary, or -1.
+     */
+    public static int slotAt(LocalTime time) {
+        int minute = minuteOfDay(time);
+        if (time.getSecond() != 0 || time.getNano() != 0 || minute % SLOT_MINUTES != 0) {
+            return -1;
+        }
+        return minute / SLOT_MINUTES;
+    }
+
+    public static LocalTime startOf(int slot) {
+        return LocalTime.MIDNIGHT.plusMinutes((long) slot * SLOT_MINUTES);
+    }
+
+    private long weekly(DayOfWeek day) {
+        return weekly[day.getValue() - 1];
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute() + (time.getSecond() > 0 || time.getNano() > 0 ? 1 : 0);
+    }
+
+    private static int ceilSlot(int minute) {
+        return (minute + SLOT_MINUTES - 1) / SLOT_MINUTES;
+    }
+
+    /**
+     * Bits {@code [from, to)} set.
+     */
+    private static long range(int from, int to) {
+        if (from >= to) {
+            return 0L;
+        }
+        long upTo = to >= Long.SIZE ? -1L : (1L << to) - 1;
+        return upTo & (-1L << from);
+    }
+}
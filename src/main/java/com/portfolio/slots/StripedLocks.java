@@ -0,0 +1,28 @@
+package com.portfolio.slots;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed pool of locks shared by hashing keys onto stripes, so memory stays
+ * constant however many keys there are. Distinct keys may share a stripe and
+ * then serialize with each other, which is safe but never required.
+ */
+public final class StripedLocks {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    public StripedLocks(int minStripes) {
+        int size = Integer.highestOneBit(Math.max(1, minStripes - 1)) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    public ReentrantLock get(Object key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & mask];
+    }
+}
@@ -0,0 +1,39 @@
+-- V10__add_advisories_slot_exclusion.sql
+-- A programmer cannot hold two pending/approved advisories whose 30-minute blocks overlap
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Existing double bookings would make the constraint fail. Which booking keeps
+-- the slot is a business decision, and both parties must be told, so the
+-- migration stops and lists the conflicts instead of changing them. Reject or
+-- cancel one advisory of each pair through the application, then restart.
+DO $$
+DECLARE
+    conflicts TEXT;
+BEGIN
+    SELECT string_agg(format('%s overlaps %s (programmer %s at %s)',
+                             later.id, earlier.id, later.programmer_id, later.scheduled_at),
+                      E'\n' ORDER BY later.programmer_id, later.scheduled_at)
+    INTO conflicts
+    FROM advisories earlier
+    JOIN advisories later
+      ON later.programmer_id = earlier.programmer_id
+     AND (earlier.created_at, earlier.id) < (later.created_at, later.id)
+     AND tsrange(earlier.scheduled_at, earlier.scheduled_at + INTERVAL '30 minutes')
+         && tsrange(later.scheduled_at, later.scheduled_at + INTERVAL '30 minutes')
+    WHERE earlier.status IN ('PENDING', 'APPROVED')
+      AND later.status IN ('PENDING', 'APPROVED');
+
+    IF conflicts IS NOT NULL THEN
+        RAISE EXCEPTION 'Overlapping pending/approved advisories block excl_advisories_programmer_slot'
+            USING DETAIL = conflicts,
+                  HINT = 'Reject or cancel one advisory of each pair, then run the migration again';
+    END IF;
+END $$;
+
+ALTER TABLE advisories
+    ADD CONSTRAINT excl_advisories_programmer_slot
+    EXCLUDE USING gist (
+        programmer_id WITH =,
+        tsrange(scheduled_at, scheduled_at + INTERVAL '30 minutes') WITH &&
+    ) WHERE (status IN ('PENDING', 'APPROVED'));
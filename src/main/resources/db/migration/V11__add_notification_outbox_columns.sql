@@ -0,0 +1,11 @@
+-- V11__add_notification_outbox_columns.sql
+-- notification_log doubles as the outbox: PENDING rows are delivered by a background dispatcher
+
+ALTER TABLE notification_log
+    ADD COLUMN attempts INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN next_attempt_at TIMESTAMP;
+
+CREATE INDEX idx_notification_log_due ON notification_log(type, next_attempt_at) WHERE status = 'PENDING';
+
+-- Rows queued before the outbox existed become due right away instead of never
+UPDATE notification_log SET next_attempt_at = created_at WHERE status = 'PENDING';
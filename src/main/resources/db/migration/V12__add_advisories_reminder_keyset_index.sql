@@ -0,0 +1,4 @@
+-- V12__add_advisories_reminder_keyset_index.sql
+-- Keyset pagination over approved advisories by (scheduled_at, id) for the reminder run
+
+CREATE INDEX idx_advisories_approved_schedule ON advisories(scheduled_at, id) WHERE status = 'APPROVED';
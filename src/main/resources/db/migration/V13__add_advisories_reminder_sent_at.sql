@@ -0,0 +1,13 @@
+-- V13__add_advisories_reminder_sent_at.sql
+-- Set when an advisory's reminder is queued, so it is sent once across restarts and instances
+
+ALTER TABLE advisories ADD COLUMN reminder_sent_at TIMESTAMP;
+
+-- The daily 10:00 batch this replaces reminded each day's advisories the day before.
+-- Before 10:00 it has covered everything up to today, after 10:00 also tomorrow;
+-- mark those as reminded so the first load does not send them again
+UPDATE advisories SET reminder_sent_at = LOCALTIMESTAMP
+WHERE status = 'APPROVED'
+  AND scheduled_at < CURRENT_DATE + CASE WHEN LOCALTIME < TIME '10:00'
+                                         THEN INTERVAL '1 day'
+                                         ELSE INTERVAL '2 days' END;
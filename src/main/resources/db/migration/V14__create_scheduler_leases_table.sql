@@ -0,0 +1,10 @@
+-- V14__create_scheduler_leases_table.sql
+-- Cluster-wide leases so singleton scheduled jobs run on one node at a time.
+-- Expiry is judged by the database clock; a node renews its leases well before they lapse.
+
+CREATE TABLE scheduler_leases (
+    name VARCHAR(100) PRIMARY KEY,
+    owner VARCHAR(255) NOT NULL,
+    acquired_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
@@ -0,0 +1,4 @@
+-- V8__add_projects_technologies_gin_index.sql
+-- GIN index over technology tags for containment/overlap lookups (@>, &&)
+
+CREATE INDEX idx_projects_technologies ON projects USING GIN (technologies);
@@ -0,0 +1,36 @@
+-- V9__create_dashboard_rollup_table.sql
+-- Pre-aggregated dashboard counters, kept in step with advisories and projects
+-- by the services and reconciled against dashboard_rollup_expected.
+--   ADVISORY:   dimension = advisory status, activity_date = scheduled day
+--   PROJECT:    dimension = '',              activity_date = 1970-01-01
+--   TECHNOLOGY: dimension = technology tag,  activity_date = 1970-01-01
+
+CREATE TABLE dashboard_rollup (
+    metric VARCHAR(20) NOT NULL,
+    programmer_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    dimension TEXT NOT NULL,
+    activity_date DATE NOT NULL,
+    total BIGINT NOT NULL,
+    PRIMARY KEY (metric, programmer_id, dimension, activity_date),
+    CONSTRAINT chk_rollup_metric CHECK (metric IN ('ADVISORY', 'PROJECT', 'TECHNOLOGY'))
+);
+
+CREATE INDEX idx_dashboard_rollup_metric_date ON dashboard_rollup(metric, activity_date);
+
+CREATE VIEW dashboard_rollup_expected AS
+SELECT 'ADVISORY' AS metric, a.programmer_id, a.status AS dimension,
+       CAST(a.scheduled_at AS DATE) AS activity_date, COUNT(*) AS total
+FROM advisories a
+GROUP BY a.programmer_id, a.status, CAST(a.scheduled_at AS DATE)
+UNION ALL
+SELECT 'PROJECT', p.user_id, '', DATE '1970-01-01', COUNT(*)
+FROM projects p
+GROUP BY p.user_id
+UNION ALL
+SELECT 'TECHNOLOGY', p.user_id, t.technology, DATE '1970-01-01', COUNT(*)
+FROM projects p CROSS JOIN LATERAL unnest(p.technologies) AS t(technology)
+WHERE t.technology IS NOT NULL
+GROUP BY p.user_id, t.technology;
+
+INSERT INTO dashboard_rollup (metric, programmer_id, dimension, activity_date, total)
+SELECT metric, programmer_id, dimension, activity_date, total FROM dashboard_rollup_expected;
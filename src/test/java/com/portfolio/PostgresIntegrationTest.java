@@ -0,0 +1,41 @@
+package com.portfolio;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Boots the application against one embedded Postgres shared by every
+ * integration test, migrated by Flyway like production. Scheduled jobs are
+ * off so tests drive them explicitly.
+ */
+@SpringBootTest(properties = {
+        "app.cors.origins=http://localhost:4200",
+        "app.google.client-id=test-client-id",
+        "app.scheduling.enabled=false",
+        "logging.level.com.portfolio=INFO",
+        "logging.level.org.springframework.security=INFO"
+})
+public abstract class PostgresIntegrationTest {
+
+    private static final EmbeddedPostgres POSTGRES = start();
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    private static EmbeddedPostgres start() {
+        try {
+            return EmbeddedPostgres.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
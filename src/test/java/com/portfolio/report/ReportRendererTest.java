@@ -0,0 +1,47 @@
+package com.portfolio.report;
+
+import com.portfolio.model.AdvisoryStatus;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReportRendererTest {
+
+    @Test
+    void completedPdfHasItsTrailer() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ReportRenderer.render(ReportTemplates.ADMIN_ADVISORIES, ReportFormat.PDF, rows(500), out);
+
+        assertThat(out.toString(StandardCharsets.ISO_8859_1)).contains("%%EOF");
+    }
+
+    @Test
+    void pdfIsLeftUnterminatedWhenTheRowsFailMidway() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Stream<AdvisoryReportRow> failing = Stream.concat(rows(500), Stream.generate(() -> {
+            throw new IllegalStateException("cursor lost");
+        }));
+
+        assertThatThrownBy(() -> ReportRenderer.render(ReportTemplates.ADMIN_ADVISORIES, ReportFormat.PDF, failing, out))
+                .hasMessage("cursor lost");
+        // Pages already flushed went out, but without a trailer no reader takes it for a complete report
+        assertThat(out.size()).isPositive();
+        assertThat(out.toString(StandardCharsets.ISO_8859_1)).doesNotContain("%%EOF");
+    }
+
+    private static Stream<AdvisoryReportRow> rows(int count) {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 9, 0);
+        return IntStream.range(0, count).mapToObj(i -> new AdvisoryReportRow(UUID.randomUUID(), "Juan Developer",
+                "Cliente " + i, "cliente" + i + "@portfolio.com", start.plusMinutes(30L * i),
+                AdvisoryStatus.COMPLETED, "Comentario", null));
+    }
+}
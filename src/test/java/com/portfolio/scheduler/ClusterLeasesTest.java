@@ -0,0 +1,76 @@
+package com.portfolio.scheduler;
+
+import com.portfolio.PostgresIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClusterLeasesTest extends PostgresIntegrationTest {
+
+    private static final String LEASE = "cluster-leases-test";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<ClusterLeases> leases = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        leases.forEach(ClusterLeases::release);
+        jdbcTemplate.update("DELETE FROM scheduler_leases WHERE name = ?", LEASE);
+    }
+
+    @Test
+    void acquisitionSurvivesTheCallersRollback() {
+        ClusterLeases nodeA = leases("node-a");
+        TransactionTemplate callerTransaction = new TransactionTemplate(transactionManager);
+
+        callerTransaction.executeWithoutResult(status -> {
+            assertThat(nodeA.isHeld(LEASE)).isTrue();
+            status.setRollbackOnly();
+        });
+
+        assertThat(owner()).isEqualTo("node-a");
+        // Had the row gone with the rollback, another node could take the lease while A still thinks it leads
+        assertThat(leases("node-b").isHeld(LEASE)).isFalse();
+        assertThat(nodeA.isHeld(LEASE)).isTrue();
+    }
+
+    @Test
+    void releasedLeasesAreNotTakenBack() {
+        ClusterLeases nodeA = leases("node-a");
+        assertThat(nodeA.isHeld(LEASE)).isTrue();
+
+        nodeA.release();
+        nodeA.renew();
+
+        assertThat(owner()).isNull();
+        assertThat(nodeA.isHeld(LEASE)).isFalse();
+        assertThat(owner()).isNull();
+        assertThat(leases("node-b").isHeld(LEASE)).isTrue();
+    }
+
+    private ClusterLeases leases(String nodeId) {
+        ClusterLeases clusterLeases = new ClusterLeases(jdbcTemplate, transactionManager, nodeId,
+                Duration.ofSeconds(30), 10_000);
+        leases.add(clusterLeases);
+        return clusterLeases;
+    }
+
+    private String owner() {
+        return jdbcTemplate.query("SELECT owner FROM scheduler_leases WHERE name = ?",
+                rs -> rs.next() ? rs.getString(1) : null, LEASE);
+    }
+}
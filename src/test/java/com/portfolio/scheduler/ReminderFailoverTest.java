@@ -0,0 +1,164 @@
+package com.portfolio.scheduler;
+
+import com.portfolio.PostgresIntegrationTest;
+import com.portfolio.dto.ReminderStatusResponse;
+import com.portfolio.repository.AdvisoryRepository;
+import com.portfolio.service.AdvisoryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReminderFailoverTest extends PostgresIntegrationTest {
+
+    private static final UUID PROGRAMMER_ID = UUID.fromString("22222222-2222-2222-2222-222222222222");
+    private static final UUID EXTERNAL_ID = UUID.fromString("33333333-3333-3333-3333-333333333333");
+    private static final Duration TTL = Duration.ofSeconds(3);
+    private static final long RENEW_MS = 1_000;
+    private static final long TICK_MS = 100;
+    // Longer than the advisories are away, so every reminder is due as soon as it is loaded
+    private static final Duration LEAD_TIME = Duration.ofDays(3);
+
+    @Autowired
+    private AdvisoryRepository advisoryRepository;
+
+    @Autowired
+    private AdvisoryService advisoryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<AdvisoryReminderScheduler> schedulers = new ArrayList<>();
+    private final List<ClusterLeases> leases = new ArrayList<>();
+    private final List<ClusterLeases> renewing = new ArrayList<>();
+    private long nextRenewAt = System.nanoTime();
+
+    @AfterEach
+    void tearDown() {
+        schedulers.forEach(AdvisoryReminderScheduler::shutdown);
+        leases.forEach(ClusterLeases::release);
+    }
+
+    @Test
+    void standbyTakesOverAfterTheLeaseExpiresAndRemindsOnce() throws Exception {
+        ClusterLeases leasesA = leases("node-a");
+        ClusterLeases leasesB = leases("node-b");
+        AdvisoryReminderScheduler nodeA = scheduler(leasesA);
+        AdvisoryReminderScheduler nodeB = scheduler(leasesB);
+        long notificationsBefore = countReminderNotifications();
+        LocalDateTime base = LocalDateTime.now().plusDays(2).withSecond(0).withNano(0);
+
+        // Node A leads and reminds the first half
+        List<UUID> firstHalf = insertApproved(base, 0, 20);
+        nodeA.tick();
+        nodeB.tick();
+        assertThat(nodeA.getStatus().isLeader()).isTrue();
+        assertThat(nodeB.getStatus().isLeader()).isFalse();
+        awaitTicking(() -> nodeA.getStatus().getSentReminders() == 20, nodeA, nodeB);
+
+        // Node A dies: no more renewals, no release
+        long lastRenewA = System.nanoTime();
+        leasesA.renew();
+        renewing.remove(leasesA);
+        nodeA.shutdown();
+        List<UUID> secondHalf = insertApproved(base, 20, 20);
+
+        awaitTicking(() -> nodeB.getStatus().isLeader(), nodeB);
+        long takeoverAt = System.nanoTime();
+        assertThat(Duration.ofNanos(takeoverAt - lastRenewA)).isGreaterThanOrEqualTo(TTL.minusMillis(50));
+
+        awaitTicking(() -> nodeB.getStatus().getSentReminders() == 20, nodeB);
+        // More ticks and a resync must not remind anything again
+        nodeB.resync();
+        long settleUntil = System.nanoTime() + Duration.ofSeconds(1).toNanos();
+        awaitTicking(() -> System.nanoTime() >= settleUntil, nodeB);
+
+        ReminderStatusResponse statusA = nodeA.getStatus();
+        ReminderStatusResponse statusB = nodeB.getStatus();
+        assertThat(statusA.getSentReminders()).isEqualTo(20);
+        assertThat(statusB.getSentReminders()).isEqualTo(20);
+        assertThat(statusB.getFailedReminders()).isZero();
+        assertThat(countReminded(firstHalf)).isEqualTo(20);
+        assertThat(countReminded(secondHalf)).isEqualTo(20);
+        // Email and WhatsApp for both the programmer and the external user
+        assertThat(countReminderNotifications() - notificationsBefore).isEqualTo(40 * 4);
+
+        // The old leader cannot get the lease back while node B holds it
+        leasesA.renew();
+        assertThat(leasesA.isHeld(AdvisoryReminderScheduler.LEASE)).isFalse();
+        assertThat(leasesB.isHeld(AdvisoryReminderScheduler.LEASE)).isTrue();
+    }
+
+    private ClusterLeases leases(String nodeId) {
+        ClusterLeases clusterLeases = new ClusterLeases(jdbcTemplate, transactionManager, nodeId, TTL, RENEW_MS);
+        leases.add(clusterLeases);
+        renewing.add(clusterLeases);
+        return clusterLeases;
+    }
+
+    private AdvisoryReminderScheduler scheduler(ClusterLeases clusterLeases) {
+        AdvisoryReminderScheduler scheduler = new AdvisoryReminderScheduler(advisoryRepository, advisoryService,
+                clusterLeases, LEAD_TIME, Duration.ofHours(1), TICK_MS, 10, 2);
+        schedulers.add(scheduler);
+        return scheduler;
+    }
+
+    private List<UUID> insertApproved(LocalDateTime base, int from, int count) {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = from; i < from + count; i++) {
+            UUID id = UUID.randomUUID();
+            jdbcTemplate.update("INSERT INTO advisories (id, programmer_id, external_id, scheduled_at, status) "
+                    + "VALUES (?, ?, ?, ?, 'APPROVED')", id, PROGRAMMER_ID, EXTERNAL_ID,
+                    Timestamp.valueOf(base.plusMinutes(30L * i)));
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private int countReminded(List<UUID> ids) {
+        return ids.stream()
+                .mapToInt(id -> jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM advisories WHERE id = ? AND reminder_sent_at IS NOT NULL",
+                        Integer.class, id))
+                .sum();
+    }
+
+    private long countReminderNotifications() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notification_log "
+                + "WHERE subject = 'Recordatorio de asesoría' OR payload LIKE 'Recordatorio: %'", Long.class);
+    }
+
+    /**
+     * Stands in for the scheduled timers: ticks the given nodes and renews
+     * the leases of the live ones once per renew interval.
+     */
+    private void awaitTicking(BooleanSupplier done, AdvisoryReminderScheduler... nodes)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(15).toNanos();
+        while (!done.getAsBoolean()) {
+            assertThat(System.nanoTime() - deadline).as("timed out").isNegative();
+            if (System.nanoTime() - nextRenewAt >= 0) {
+                renewing.forEach(ClusterLeases::renew);
+                nextRenewAt = System.nanoTime() + Duration.ofMillis(RENEW_MS).toNanos();
+            }
+            for (AdvisoryReminderScheduler node : nodes) {
+                node.tick();
+            }
+            Thread.sleep(TICK_MS);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.portfolio.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    private static final long TICK_MS = 10;
+    private static final int WHEEL_SIZE = 8;
+
+    private record Fired(int key, long deadlineMs) {
+    }
+
+    @Test
+    void randomOperationsFireEachEntryOnceAtItsTick() {
+        Random random = new Random(42);
+        TimingWheel<Integer, Fired> wheel = new TimingWheel<>(TICK_MS, WHEEL_SIZE, 0);
+        Map<Integer, Long> expected = new HashMap<>();
+        long now = 0;
+
+        for (int op = 0; op < 200_000; op++) {
+            int key = random.nextInt(2_000);
+            int choice = random.nextInt(10);
+            if (choice < 5) {
+                // Spans up to five levels of an 8-slot wheel, plus the occasional past deadline
+                long deadline = now + randomDelay(random);
+                boolean scheduled = wheel.schedule(key, deadline, new Fired(key, deadline));
+                assertThat(scheduled).isEqualTo(deadline / TICK_MS > now / TICK_MS);
+                if (scheduled) {
+                    expected.put(key, deadline);
+                } else {
+                    expected.remove(key);
+                }
+            } else if (choice < 7) {
+                assertThat(wheel.cancel(key)).isEqualTo(expected.remove(key) != null);
+            } else {
+                now += random.nextInt(random.nextBoolean() ? 50 : 5_000);
+                long nowTick = now / TICK_MS;
+
+                Set<Integer> fired = new HashSet<>();
+                for (Fired entry : wheel.advance(now)) {
+                    assertThat(fired.add(entry.key())).as("fired twice: %s", entry).isTrue();
+                    assertThat(expected.remove(entry.key())).as("stale or cancelled: %s", entry)
+                            .isEqualTo(entry.deadlineMs());
+                    assertThat(entry.deadlineMs() / TICK_MS).as("fired early: %s", entry).isLessThanOrEqualTo(nowTick);
+                }
+                List<Integer> overdue = new ArrayList<>();
+                expected.forEach((k, deadline) -> {
+                    if (deadline / TICK_MS <= nowTick) {
+                        overdue.add(k);
+                    }
+                });
+                assertThat(overdue).as("missed at %d", now).isEmpty();
+            }
+            assertThat(wheel.size()).isEqualTo(expected.size());
+        }
+
+        now += 400_000;
+        List<Fired> rest = wheel.advance(now);
+        assertThat(rest).hasSize(expected.size());
+        rest.forEach(entry -> assertThat(expected.get(entry.key())).isEqualTo(entry.deadlineMs()));
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void clearDropsEveryEntry() {
+        TimingWheel<Integer, Integer> wheel = new TimingWheel<>(TICK_MS, WHEEL_SIZE, 0);
+        for (int key = 0; key < 100; key++) {
+            wheel.schedule(key, 20 + key * 1_000L, key);
+        }
+
+        wheel.clear();
+
+        assertThat(wheel.size()).isZero();
+        assertThat(wheel.contains(5)).isFalse();
+        assertThat(wheel.advance(200_000)).isEmpty();
+
+        assertThat(wheel.schedule(1, 200_500, 1)).isTrue();
+        assertThat(wheel.advance(200_490)).isEmpty();
+        assertThat(wheel.advance(200_500)).containsExactly(1);
+    }
+
+    private static long randomDelay(Random random) {
+        return switch (random.nextInt(4)) {
+            case 0 -> random.nextInt(100) - 20;
+            case 1 -> random.nextInt(1_000);
+            case 2 -> random.nextInt(50_000);
+            default -> random.nextInt(350_000);
+        };
+    }
+}
@@ -0,0 +1,144 @@
+package com.portfolio.service;
+
+import com.portfolio.PostgresIntegrationTest;
+import com.portfolio.dto.AdvisoryRequest;
+import com.portfolio.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdvisoryBookingConcurrencyTest extends PostgresIntegrationTest {
+
+    private static final UUID PROGRAMMER_ID = UUID.fromString("22222222-2222-2222-2222-222222222222");
+    // Any seeded user can book; the EXTERNAL seed users do not map to a Role constant
+    private static final UUID EXTERNAL_ID = UUID.fromString("33333333-3333-3333-3333-333333333333");
+
+    @Autowired
+    private AdvisoryService advisoryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentBookingsOfTheSameSlotSucceedOnce() throws Exception {
+        // dev1 is available on Mondays from 09:00 to 12:00
+        LocalDate monday = LocalDate.now().plusWeeks(10).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+        List<LocalDateTime> slots = List.of(monday.atTime(9, 0), monday.atTime(9, 30),
+                monday.atTime(10, 0), monday.atTime(10, 30));
+        int attemptsPerSlot = 100;
+
+        Map<LocalDateTime, AtomicInteger> booked = new ConcurrentHashMap<>();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Callable<Void>> bookings = new ArrayList<>();
+        for (int i = 0; i < attemptsPerSlot; i++) {
+            for (LocalDateTime slot : slots) {
+                bookings.add(() -> {
+                    try {
+                        advisoryService.create(EXTERNAL_ID, new AdvisoryRequest(PROGRAMMER_ID, slot, "Carga concurrente"));
+                        booked.computeIfAbsent(slot, s -> new AtomicInteger()).incrementAndGet();
+                    } catch (BadRequestException e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+        }
+
+        runTogether(bookings, 64);
+
+        assertThat(booked).containsOnlyKeys(slots);
+        booked.values().forEach(count -> assertThat(count).hasValue(1));
+        assertThat(rejected).hasValue(slots.size() * (attemptsPerSlot - 1));
+        assertThat(countActive(monday.atStartOfDay(), monday.plusDays(1).atStartOfDay())).isEqualTo(slots.size());
+    }
+
+    @Test
+    void exclusionConstraintKeepsOverlappingInsertsApart() throws Exception {
+        // Inserts that skip the service, like bookings racing on different instances
+        LocalDate day = LocalDate.now().plusWeeks(12);
+        AtomicInteger inserted = new AtomicInteger();
+        AtomicInteger excluded = new AtomicInteger();
+        AtomicInteger deadlocked = new AtomicInteger();
+        List<Callable<Void>> inserts = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            LocalDateTime start = day.atTime(LocalTime.of(10, 0)).plusMinutes((i % 12) * 10L);
+            inserts.add(() -> {
+                try {
+                    jdbcTemplate.update("INSERT INTO advisories (programmer_id, external_id, scheduled_at, status) "
+                            + "VALUES (?, ?, ?, 'PENDING')", PROGRAMMER_ID, EXTERNAL_ID, Timestamp.valueOf(start));
+                    inserted.incrementAndGet();
+                } catch (DataIntegrityViolationException e) {
+                    assertThat(e.getMostSpecificCause()).isInstanceOf(SQLException.class);
+                    assertThat(((SQLException) e.getMostSpecificCause()).getSQLState()).isEqualTo("23P01");
+                    excluded.incrementAndGet();
+                } catch (PessimisticLockingFailureException e) {
+                    // Two inserts waiting on each other's exclusion check; Postgres aborts one
+                    deadlocked.incrementAndGet();
+                }
+                return null;
+            });
+        }
+
+        runTogether(inserts, 32);
+
+        assertThat(inserted.get()).isPositive();
+        assertThat(inserted.get() + excluded.get() + deadlocked.get()).isEqualTo(300);
+        Integer overlapping = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM advisories a JOIN advisories b "
+                + "ON a.programmer_id = b.programmer_id AND a.id < b.id "
+                + "AND tsrange(a.scheduled_at, a.scheduled_at + INTERVAL '30 minutes') "
+                + "&& tsrange(b.scheduled_at, b.scheduled_at + INTERVAL '30 minutes') "
+                + "WHERE a.status IN ('PENDING', 'APPROVED') AND b.status IN ('PENDING', 'APPROVED')", Integer.class);
+        assertThat(overlapping).isZero();
+        assertThat(countActive(day.atStartOfDay(), day.plusDays(1).atStartOfDay())).isEqualTo(inserted.get());
+    }
+
+    private int countActive(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM advisories WHERE programmer_id = ? "
+                        + "AND scheduled_at >= ? AND scheduled_at < ? AND status IN ('PENDING', 'APPROVED')",
+                Integer.class, PROGRAMMER_ID, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    private static void runTogether(List<Callable<Void>> tasks, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (Callable<Void> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.portfolio.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.portfolio.PostgresIntegrationTest;
+import jakarta.mail.Message;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = {
+        "app.mail.enabled=true",
+        "spring.mail.host=localhost",
+        "spring.mail.port=" + NotificationDispatcherMailTest.PROXY_PORT,
+        "spring.mail.properties.mail.smtp.auth=false",
+        "spring.mail.properties.mail.smtp.starttls.enable=false",
+        "app.notifications.mail.flush-interval=0s"
+})
+class NotificationDispatcherMailTest extends PostgresIntegrationTest {
+
+    static final int PROXY_PORT = 3026;
+
+    @RegisterExtension
+    static final GreenMailExtension GREEN_MAIL = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    // Sits between the sender and GreenMail to count SMTP connections
+    private static ConnectionCountingProxy proxy;
+
+    // Valid for the client, but the server rejects the RCPT command, so only this message fails
+    private static final String REJECTED_ADDRESS = "\"rechazo>smtp\"@portfolio.com";
+
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void startProxy() throws IOException {
+        proxy = new ConnectionCountingProxy(PROXY_PORT, ServerSetupTest.SMTP.getPort());
+    }
+
+    @AfterAll
+    static void stopProxy() throws IOException {
+        proxy.close();
+    }
+
+    @BeforeEach
+    void clearOutbox() {
+        // Rows queued by other tests would otherwise share the batch
+        jdbcTemplate.update("UPDATE notification_log SET status = 'SENT' WHERE status = 'PENDING'");
+    }
+
+    @Test
+    void partlyFailedBatchRetriesOnlyTheRejectedMessages() throws Exception {
+        List<UUID> delivered = new ArrayList<>();
+        List<UUID> rejected = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            if (i % 3 == 1) {
+                rejected.add(queueEmail(REJECTED_ADDRESS));
+            } else {
+                delivered.add(queueEmail("destino" + i + "@portfolio.com"));
+            }
+        }
+
+        int connectionsBefore = proxy.getConnections();
+        notificationDispatcher.poll();
+        assertThat(GREEN_MAIL.waitForIncomingEmail(10_000, delivered.size())).isTrue();
+        awaitResolved(delivered.size() + rejected.size());
+
+        // The whole batch, rejected recipients included, went over one SMTP session
+        assertThat(proxy.getConnections() - connectionsBefore).isEqualTo(1);
+
+        MimeMessage[] received = GREEN_MAIL.getReceivedMessages();
+        assertThat(received).hasSize(delivered.size());
+        assertThat(Arrays.stream(received).map(this::recipient))
+                .containsExactlyInAnyOrder("destino0@portfolio.com", "destino2@portfolio.com",
+                        "destino3@portfolio.com", "destino5@portfolio.com");
+
+        LocalDateTime now = LocalDateTime.now();
+        for (UUID id : delivered) {
+            Map<String, Object> row = row(id);
+            assertThat(row.get("status")).isEqualTo("SENT");
+            assertThat(row.get("error_message")).isNull();
+        }
+        for (UUID id : rejected) {
+            Map<String, Object> row = row(id);
+            assertThat(row.get("status")).isEqualTo("PENDING");
+            assertThat(row.get("attempts")).isEqualTo(1);
+            assertThat(row.get("error_message")).isNotNull();
+            assertThat(((Timestamp) row.get("next_attempt_at")).toLocalDateTime()).isAfter(now);
+        }
+    }
+
+    private UUID queueEmail(String destination) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO notification_log (id, type, destination, subject, payload, status, "
+                        + "next_attempt_at) VALUES (?, 'EMAIL', ?, 'Prueba', 'Mensaje de prueba', 'PENDING', ?)",
+                id, destination, Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)));
+        return id;
+    }
+
+    private void awaitResolved(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        // Claimed rows are leased into the future; resolved ones are SENT or carry the failure
+        String sql = "SELECT COUNT(*) FROM notification_log WHERE subject = 'Prueba' "
+                + "AND (status = 'SENT' OR error_message IS NOT NULL)";
+        while (jdbcTemplate.queryForObject(sql, Integer.class) < count) {
+            assertThat(System.nanoTime() - deadline).as("timed out").isNegative();
+            Thread.sleep(50);
+        }
+    }
+
+    private Map<String, Object> row(UUID id) {
+        return jdbcTemplate.queryForMap(
+                "SELECT status, attempts, error_message, next_attempt_at FROM notification_log WHERE id = ?", id);
+    }
+
+    /**
+     * Forwards every accepted connection to the target port and counts them.
+     */
+    private static final class ConnectionCountingProxy implements Closeable {
+
+        private final ServerSocket serverSocket;
+        private final AtomicInteger connections = new AtomicInteger();
+        private final ExecutorService pipes = Executors.newCachedThreadPool();
+
+        ConnectionCountingProxy(int port, int targetPort) throws IOException {
+            this.serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+            pipes.execute(() -> {
+                while (!serverSocket.isClosed()) {
+                    try {
+                        Socket client = serverSocket.accept();
+                        Socket target = new Socket(InetAddress.getLoopbackAddress(), targetPort);
+                        connections.incrementAndGet();
+                        pipes.execute(() -> pipe(client, target));
+                        pipes.execute(() -> pipe(target, client));
+                    } catch (IOException e) {
+                        // Closed
+                    }
+                }
+            });
+        }
+
+        int getConnections() {
+            return connections.get();
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+            pipes.shutdownNow();
+        }
+
+        private static void pipe(Socket from, Socket to) {
+            try (from; to) {
+                from.getInputStream().transferTo(to.getOutputStream());
+            } catch (IOException e) {
+                // Either side hung up
+            }
+        }
+    }
+
+    private String recipient(MimeMessage message) {
+        try {
+            return message.getRecipients(Message.RecipientType.TO)[0].toString();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.portfolio.service;
+
+import com.portfolio.PostgresIntegrationTest;
+import com.portfolio.report.ReportBundle;
+import com.portfolio.report.ReportFormat;
+import com.portfolio.report.ReportSpec;
+import com.portfolio.report.ReportType;
+import com.portfolio.repository.AdvisoryRepository;
+import com.portfolio.repository.ProjectRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ReportBundleQueryCountTest extends PostgresIntegrationTest {
+
+    private static final UUID PROGRAMMER_ID = UUID.fromString("22222222-2222-2222-2222-222222222222");
+    private static final UUID EXTERNAL_ID = UUID.fromString("33333333-3333-3333-3333-333333333333");
+    private static final LocalDate MONTH = LocalDate.of(2041, 3, 1);
+
+    @Autowired
+    private ReportBundleService reportBundleService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    private AdvisoryRepository advisoryRepository;
+
+    @SpyBean
+    private ProjectRepository projectRepository;
+
+    @Test
+    void everyDatasetIsQueriedOnceForAllItsFormats() throws Exception {
+        for (int i = 0; i < 40; i++) {
+            jdbcTemplate.update("INSERT INTO advisories (programmer_id, external_id, scheduled_at, status) "
+                    + "VALUES (?, ?, ?, 'COMPLETED')", PROGRAMMER_ID, EXTERNAL_ID,
+                    Timestamp.valueOf(MONTH.atTime(9, 0).plusHours(i)));
+        }
+        List<ReportSpec> specs = new ArrayList<>();
+        for (ReportType type : ReportType.values()) {
+            for (ReportFormat format : ReportFormat.values()) {
+                specs.add(ReportSpec.of(type, format, PROGRAMMER_ID, null, MONTH, MONTH.plusMonths(1).minusDays(1)));
+            }
+        }
+
+        Map<String, byte[]> entries = unzip(reportBundleService.submit(specs));
+
+        // One cursor per report type, however many formats it is rendered in
+        verify(advisoryRepository, times(1)).streamReportRows(any(), any(), any(), any());
+        verify(projectRepository, times(1)).streamReportRows(any(), any(), any(), any());
+        assertThat(entries).containsOnlyKeys(specs.stream().map(ReportSpec::fileName).toList());
+        assertThat(lines(entries.get("asesorias-admin.csv"))).hasSize(1 + 40);
+        assertThat(lines(entries.get("asesorias-admin.ndjson"))).hasSize(40);
+        assertThat(new String(entries.get("asesorias-admin.pdf"), StandardCharsets.ISO_8859_1)).contains("%%EOF");
+        assertThat(entries.get("asesorias-admin.xlsx")).isNotEmpty();
+    }
+
+    private static Map<String, byte[]> unzip(ReportBundle bundle) throws IOException {
+        ByteArrayOutputStream zipped = new ByteArrayOutputStream();
+        bundle.writeTo(zipped);
+
+        Map<String, byte[]> entries = new HashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(zipped.toByteArray()))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.put(entry.getName(), zip.readAllBytes());
+            }
+        }
+        return entries;
+    }
+
+    private static List<String> lines(byte[] content) {
+        return new String(content, StandardCharsets.UTF_8).lines().toList();
+    }
+}
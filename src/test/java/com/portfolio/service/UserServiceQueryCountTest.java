@@ -0,0 +1,83 @@
+package com.portfolio.service;
+
+import com.portfolio.PostgresIntegrationTest;
+import com.portfolio.dto.UserResponse;
+import com.portfolio.model.Role;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserServiceQueryCountTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void disableStatistics() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void mappingProgrammersTakesTheSameStatementsForAnyCount() {
+        insertProgrammers(5);
+        List<UserResponse> few = userService.findByRole(Role.PROGRAMMER);
+        long fewStatements = statementsOf(() -> userService.findByRole(Role.PROGRAMMER));
+
+        insertProgrammers(120);
+        List<UserResponse> many = userService.findByRole(Role.PROGRAMMER);
+        long manyStatements = statementsOf(() -> userService.findByRole(Role.PROGRAMMER));
+
+        assertThat(many).hasSize(few.size() + 120);
+        // The users, one grouped project count and one availability lookup
+        assertThat(fewStatements).isEqualTo(3);
+        assertThat(manyStatements).isEqualTo(fewStatements);
+
+        UserResponse mapped = many.stream().filter(user -> user.getEmail().startsWith("qc-")).findFirst().orElseThrow();
+        assertThat(mapped.getProjectCount()).isEqualTo(2);
+        assertThat(mapped.getAvailability()).hasSize(1);
+    }
+
+    private long statementsOf(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void insertProgrammers(int count) {
+        for (int i = 0; i < count; i++) {
+            UUID id = UUID.randomUUID();
+            jdbcTemplate.update("INSERT INTO users (id, email, name, role) VALUES (?, ?, ?, 'PROGRAMMER')",
+                    id, "qc-" + id + "@portfolio.com", "Programador " + i);
+            for (int project = 0; project < 2; project++) {
+                jdbcTemplate.update("INSERT INTO projects (user_id, title, project_type) VALUES (?, ?, 'WORK')",
+                        id, "Proyecto " + project);
+            }
+            jdbcTemplate.update("INSERT INTO availability (user_id, day_of_week, start_time, end_time) "
+                    + "VALUES (?, 'TUESDAY', '09:00', '12:00')", id);
+        }
+    }
+}